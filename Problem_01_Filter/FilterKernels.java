@@ -0,0 +1,77 @@
+package streams.mastery.problem01;
+
+/**
+ * Entry point for the isEven() filter kernels
+ *
+ * See: concept.md → "Performance: SIMD Kernels"
+ *
+ * Picks the implementation ONCE at class load:
+ * - VECTOR: jdk.incubator.vector is present (run with --add-modules jdk.incubator.vector)
+ * - SCALAR: plain loop, used when the module is missing, when the vector
+ *           class fails to link, or when -Dstreams.mastery.scalar=true
+ *
+ * Both produce exactly the same output in the same order.
+ */
+public final class FilterKernels {
+
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private FilterKernels() {
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    public static String describe() {
+        return VECTORIZED
+                ? "vector (" + VectorFilterKernel.lanes() + " int lanes)"
+                : "scalar";
+    }
+
+    /**
+     * Write even values of src[from, to) into dst (from index 0).
+     * dst must have room for (to - from) values. Returns the count written.
+     */
+    public static int filterEven(int[] src, int from, int to, int[] dst) {
+        if (from < 0 || to > src.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length "
+                    + src.length);
+        }
+        if (dst.length < to - from) {
+            throw new IllegalArgumentException("dst too small: " + dst.length + " < " + (to - from));
+        }
+        return VECTORIZED
+                ? VectorFilterKernel.filterEven(src, from, to, dst)
+                : filterEvenScalar(src, from, to, dst);
+    }
+
+    /**
+     * Reference implementation - one element at a time
+     */
+    public static int filterEvenScalar(int[] src, int from, int to, int[] dst) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int value = src[i];
+            if (Solution.isEven(value)) {
+                dst[n++] = value;
+            }
+        }
+        return n;
+    }
+
+    private static boolean detectVectorSupport() {
+        if (Boolean.getBoolean("streams.mastery.scalar")) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            // Force linking now so a broken setup falls back instead of failing later
+            return VectorFilterKernel.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package streams.mastery.problem01;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Primitive filter engine - the boxing-free version of findEvenWithStreams()
+ *
+ * See: concept.md → "Performance: Filtering Without Boxing"
+ *
+ * Why?
+ * - List<Integer> stores one Integer object per element
+ * - filter() on Stream<Integer> unboxes every element to test it
+ * - collect(toList()) grows an ArrayList of boxed results
+ *
+ * This engine works on int[] / IntStream + IntPredicate and writes matches
+ * into ONE reusable int[] buffer. After the buffer has grown to fit the
+ * largest result, filtering allocates nothing at all.
+ *
+ * NOT thread-safe: use one engine per thread.
+ */
+public final class IntFilterEngine {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] buffer;
+    private int size;
+
+    public IntFilterEngine() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntFilterEngine(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        }
+        this.buffer = new int[initialCapacity];
+    }
+
+    /**
+     * Keep elements of source matching predicate (replaces previous result)
+     */
+    public IntFilterEngine filter(int[] source, IntPredicate predicate) {
+        return filter(source, 0, source.length, predicate);
+    }
+
+    /**
+     * Same as filter(int[], IntPredicate) but only over source[from, to)
+     */
+    public IntFilterEngine filter(int[] source, int from, int to, IntPredicate predicate) {
+        if (from < 0 || to > source.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length "
+                    + source.length);
+        }
+        clear();
+
+        // Worst case every element matches → grow once up front, not per add
+        ensureCapacity(to - from);
+
+        int[] out = buffer;
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int value = source[i];
+            if (predicate.test(value)) {
+                out[n++] = value;
+            }
+        }
+        size = n;
+        return this;
+    }
+
+    /**
+     * Keep even elements of source using the SIMD kernel when available
+     *
+     * Same result as filter(source, Solution::isEven) - see FilterKernels
+     */
+    public IntFilterEngine filterEven(int[] source) {
+        clear();
+        ensureCapacity(source.length);
+        size = FilterKernels.filterEven(source, 0, source.length, buffer);
+        return this;
+    }
+
+    /**
+     * Filter any IntStream (e.g. IntStream.range, Arrays.stream, a file source)
+     *
+     * Sequential only: the buffer is not thread-safe.
+     */
+    public IntFilterEngine filter(IntStream source, IntPredicate predicate) {
+        clear();
+        source.sequential().forEach(value -> {
+            if (predicate.test(value)) {
+                add(value);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Append one value, growing the buffer if needed
+     */
+    public void add(int value) {
+        if (size == buffer.length) {
+            ensureCapacity(size + 1);
+        }
+        buffer[size++] = value;
+    }
+
+    /**
+     * Make sure the buffer can hold at least minCapacity values
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= buffer.length) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity too large: " + minCapacity);
+        }
+        // Grow by 1.5x (like ArrayList) but at least to minCapacity
+        int newCapacity = buffer.length + (buffer.length >> 1);
+        if (newCapacity < minCapacity || newCapacity > MAX_CAPACITY) {
+            newCapacity = minCapacity;
+        }
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    /**
+     * Forget the current result, keep the buffer for reuse
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return buffer[index];
+    }
+
+    /**
+     * Backing buffer - only the first size() values are valid.
+     * No copy: the next filter() call overwrites it!
+     */
+    public int[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * Copy of the current result (allocates once, exactly sized)
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Stream over the current result without copying
+     */
+    public IntStream stream() {
+        return Arrays.stream(buffer, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,223 @@
+package streams.mastery.problem01;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Memory-mapped file of raw 32-bit ints as a stream source
+ *
+ * See: concept.md → "Performance: Filtering Files Bigger Than the Heap"
+ *
+ * Why?
+ * - Files.readAllBytes() / List<Integer> need the WHOLE file on the heap
+ * - A mapped file is paged in by the OS on demand and never copied to the heap
+ *
+ * How?
+ * - FileChannel.map() can map at most 2 GB at once, so the file is mapped
+ *   as several chunks of up to 1 GB each
+ * - spliterator() reads straight from the mapped chunks and splits by index,
+ *   so parallel() pipelines get balanced halves
+ *
+ * Usage:
+ *   try (MappedIntSource source = MappedIntSource.open(path)) {
+ *       long evens = source.stream().filter(Solution::isEven).count();
+ *   }
+ *
+ * NOTE: Java 17 cannot unmap a MappedByteBuffer explicitly. close() releases
+ * the file channel; the mapping itself goes away when the buffers are GC'd.
+ */
+public final class MappedIntSource implements AutoCloseable {
+
+    // 2^28 ints = 1 GB per mapped chunk (must stay below the 2 GB map() limit)
+    private static final int DEFAULT_CHUNK_SHIFT = 28;
+
+    // Don't split below this many ints - task overhead would dominate
+    private static final long MIN_SPLIT_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long size;
+
+    private MappedIntSource(FileChannel channel, ByteOrder order, int chunkShift) throws IOException {
+        long bytes = channel.size();
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("File size " + bytes + " is not a multiple of " + Integer.BYTES);
+        }
+        this.channel = channel;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.size = bytes / Integer.BYTES;
+
+        long intsPerChunk = 1L << chunkShift;
+        int chunkCount = (int) ((size + intsPerChunk - 1) / intsPerChunk);
+        this.chunks = new MappedByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            long firstInt = c * intsPerChunk;
+            long chunkInts = Math.min(intsPerChunk, size - firstInt);
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    firstInt * Integer.BYTES, chunkInts * Integer.BYTES);
+            chunks[c].order(order);
+        }
+    }
+
+    /**
+     * Map a file of ints written in this machine's native byte order
+     */
+    public static MappedIntSource open(Path file) throws IOException {
+        return open(file, ByteOrder.nativeOrder());
+    }
+
+    public static MappedIntSource open(Path file, ByteOrder order) throws IOException {
+        return open(file, order, DEFAULT_CHUNK_SHIFT);
+    }
+
+    // Package-private: lets small files exercise chunk boundaries
+    static MappedIntSource open(Path file, ByteOrder order, int chunkShift) throws IOException {
+        if (chunkShift < 1 || chunkShift > 28) {
+            throw new IllegalArgumentException("chunkShift must be in [1, 28]: " + chunkShift);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedIntSource(channel, order, chunkShift);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Write ints as raw 32-bit values (native byte order) - handy for test data
+     */
+    public static void write(Path file, IntStream values) throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.nativeOrder());
+            values.sequential().forEach(value -> {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush(out, buffer);
+                }
+                buffer.putInt(value);
+            });
+            flush(out, buffer);
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Number of ints in the file
+     */
+    public long size() {
+        return size;
+    }
+
+    public int get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return chunks[(int) (index >>> chunkShift)].getInt((int) (index & chunkMask) * Integer.BYTES);
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return new MappedIntSpliterator(0, size);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads ints [index, end) straight from the mapped chunks
+     */
+    private final class MappedIntSpliterator implements Spliterator.OfInt {
+        private long index;
+        private final long end;
+
+        MappedIntSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            long remaining = end - index;
+            if (remaining < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+            long mid = index + (remaining >>> 1);
+            Spliterator.OfInt prefix = new MappedIntSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            long i = index;
+            index = end; // consumed, even if action throws
+            while (i < end) {
+                // Bulk-read one chunk at a time through an IntBuffer view
+                int c = (int) (i >>> chunkShift);
+                int offset = (int) (i & chunkMask);
+                long chunkEnd = Math.min(end, ((long) c + 1) << chunkShift);
+                int count = (int) (chunkEnd - i);
+
+                IntBuffer ints = chunks[c].duplicate().order(chunks[c].order()).asIntBuffer();
+                for (int k = offset, last = offset + count; k < last; k++) {
+                    action.accept(ints.get(k));
+                }
+                i = chunkEnd;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+}
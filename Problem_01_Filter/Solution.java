@@ -1,5 +1,8 @@
 package streams.mastery.problem01;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +14,7 @@ import java.util.stream.Collectors;
  */
 public class Solution {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
 
         System.out.println("=== Problem 1: Find Even Numbers ===\n");
@@ -27,6 +30,25 @@ public class Solution {
         List<Integer> result2 = findEvenWithStreams(numbers);
         System.out.println("Output: " + result2);
 
+        // Primitive engine (no boxing)
+        System.out.println("\n--- Primitive Engine (int[] + IntPredicate) ---");
+        int[] primitiveNumbers = numbers.stream().mapToInt(Integer::intValue).toArray();
+        IntFilterEngine engine = new IntFilterEngine();
+        System.out.println("Output: " + findEvenPrimitive(primitiveNumbers, engine));
+
+        // Memory-mapped file source (file never loaded onto the heap)
+        System.out.println("\n--- Mapped File Source ---");
+        Path file = Files.createTempFile("numbers", ".bin");
+        try {
+            MappedIntSource.write(file, Arrays.stream(primitiveNumbers));
+            try (MappedIntSource source = MappedIntSource.open(file)) {
+                System.out.println("Output: " + findEvenInFile(source, engine));
+                System.out.println("Even count (parallel): " + countEvenInFile(source, true));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
         // More examples
         System.out.println("\n--- More Examples ---");
         moreExamples();
@@ -68,6 +90,38 @@ public class Solution {
                 .collect(Collectors.toList()); // Terminal: collect to List
     }
 
+    /**
+     * Primitive approach using IntFilterEngine
+     * 
+     * See concept.md: "Performance: Filtering Without Boxing"
+     * 
+     * Same result as findEvenWithStreams(), but:
+     * 1. int[] instead of List<Integer> → no Integer objects
+     * 2. IntPredicate (Solution::isEven) → no unboxing per test
+     * 3. Matches go into the engine's reusable buffer → no per-call list
+     */
+    public static IntFilterEngine findEvenPrimitive(int[] numbers, IntFilterEngine engine) {
+        return engine.filter(numbers, Solution::isEven);
+    }
+
+    /**
+     * Same filter, but the numbers come from a mapped file
+     * 
+     * See concept.md: "Performance: Filtering Files Bigger Than the Heap"
+     */
+    public static IntFilterEngine findEvenInFile(MappedIntSource source, IntFilterEngine engine) {
+        return engine.filter(source.stream(), Solution::isEven);
+    }
+
+    /**
+     * Count only - works for files of any size, sequential or parallel
+     */
+    public static long countEvenInFile(MappedIntSource source, boolean parallel) {
+        return (parallel ? source.parallelStream() : source.stream())
+                .filter(Solution::isEven)
+                .count();
+    }
+
     public static void moreExamples() {
         List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 15, 20, 25);
 
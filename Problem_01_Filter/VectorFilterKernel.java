@@ -0,0 +1,70 @@
+package streams.mastery.problem01;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD version of the isEven() filter (jdk.incubator.vector)
+ *
+ * Needs --add-modules jdk.incubator.vector to compile AND run.
+ * Never call this class directly - go through FilterKernels, which falls
+ * back to the scalar loop when the module is missing.
+ *
+ * Idea (mask-based compaction):
+ * 1. Load LANES ints at once into a vector
+ * 2. One instruction tests all lanes: (v & 1) == 0 → mask of even lanes
+ * 3. All lanes even → store the whole vector
+ *    No lane even    → skip the whole block
+ *    Mixed           → copy lanes branch-free, keeping only the set ones
+ */
+final class VectorFilterKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorFilterKernel() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Write even values of src[from, to) into dst starting at 0.
+     * dst must have room for (to - from) values. Returns the count written.
+     */
+    static int filterEven(int[] src, int from, int to, int[] dst) {
+        int n = 0;
+        int i = from;
+        int upperBound = from + SPECIES.loopBound(to - from);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector v = IntVector.fromArray(SPECIES, src, i);
+            VectorMask<Integer> even = v.lanewise(VectorOperators.AND, 1)
+                    .compare(VectorOperators.EQ, 0);
+
+            if (even.allTrue()) {
+                v.intoArray(dst, n);
+                n += SPECIES.length();
+            } else if (even.anyTrue()) {
+                // JDK 17 has no compress(): write every lane, but only
+                // advance n for set mask bits (branch-free, no mispredicts)
+                long bits = even.toLong();
+                for (int lane = 0; lane < SPECIES.length(); lane++) {
+                    dst[n] = src[i + lane];
+                    n += (int) (bits >>> lane) & 1;
+                }
+            }
+        }
+
+        // Tail: fewer than LANES elements left
+        for (; i < to; i++) {
+            int value = src[i];
+            if ((value & 1) == 0) {
+                dst[n++] = value;
+            }
+        }
+        return n;
+    }
+}
@@ -1,5 +1,8 @@
 package streams.mastery.problem02;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +14,7 @@ import java.util.stream.Collectors;
  */
 public class Solution {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         List<String> names = Arrays.asList("ram", "sita", "lakshman", "hanuman", "ravana");
 
         System.out.println("=== Problem 2: Transform Names to Uppercase ===\n");
@@ -27,6 +30,25 @@ public class Solution {
         List<String> result2 = transformWithStreams(names);
         System.out.println("Output: " + result2);
 
+        // Latin-1 fast path
+        System.out.println("\n--- Fast Path (UppercaseTransformer) ---");
+        List<String> result3 = transformWithFastPath(names, new UppercaseTransformer());
+        System.out.println("Output: " + result3);
+
+        // File → file with bounded memory
+        System.out.println("\n--- Streaming File Transform ---");
+        Path input = Files.createTempFile("names", ".txt");
+        Path output = Files.createTempFile("names-upper", ".txt");
+        try {
+            Files.write(input, names);
+            StreamingTransform.Report report = transformFile(input, output, 1);
+            System.out.println("Output: " + Files.readAllLines(output));
+            System.out.println("Report: " + report);
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+
         // More examples
         System.out.println("\n--- More Examples ---");
         moreExamples();
@@ -65,6 +87,34 @@ public class Solution {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Same result as transformWithStreams(), without the overhead
+     * 
+     * See concept.md: "Performance: Uppercase Without the Overhead"
+     * 
+     * 1. ASCII/Latin-1 names → table lookup instead of locale-aware code
+     * 2. Already uppercase   → same String returned, nothing allocated
+     * 3. Output array sized once → no ArrayList growth
+     */
+    public static List<String> transformWithFastPath(List<String> names, UppercaseTransformer transformer) {
+        return transformer.transformToList(names);
+    }
+
+    /**
+     * Same map() step as transformWithStreams(), but file → file
+     * 
+     * See concept.md: "Performance: Transforming Files Bigger Than the Heap"
+     * 
+     * chunks == 1 → single pass; chunks > 1 → chunks transformed in parallel
+     */
+    public static StreamingTransform.Report transformFile(Path input, Path output, int chunks)
+            throws IOException {
+        StreamingTransform transform = new StreamingTransform(name -> name.toUpperCase());
+        return chunks > 1
+                ? transform.runParallel(input, output, chunks)
+                : transform.run(input, output);
+    }
+
     public static void moreExamples() {
 
         // Example 1: Double each number
@@ -0,0 +1,343 @@
+package streams.mastery.problem02;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * File-to-file map() with bounded memory
+ *
+ * See: concept.md → "Performance: Transforming Files Bigger Than the Heap"
+ *
+ * transformWithStreams() needs the whole List<String> in memory.
+ * This stage does the same map() step line by line:
+ *
+ * 1. Read the input in large NIO buffers (UTF-8, one line per name)
+ * 2. Apply the mapper to each complete line
+ * 3. Collect encoded results in an output buffer, write it when full
+ *
+ * Memory per worker = 2 buffers (+ the longest line, if it is bigger).
+ * File size does not matter.
+ *
+ * Parallel mode splits the file at line boundaries, transforms each chunk
+ * into a temporary part file, then concatenates the parts in order.
+ *
+ * Line endings are preserved: "\n" stays "\n", "\r\n" stays "\r\n".
+ * The mapper never sees the line terminator.
+ *
+ * CLI:
+ *   java streams.mastery.problem02.StreamingTransform in.txt out.txt [chunks]
+ */
+public final class StreamingTransform {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20; // 1 MB
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final UnaryOperator<String> mapper;
+    private final int bufferSize;
+
+    public StreamingTransform(UnaryOperator<String> mapper) {
+        this(mapper, DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamingTransform(UnaryOperator<String> mapper, int bufferSize) {
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("bufferSize must be >= 16: " + bufferSize);
+        }
+        this.mapper = mapper;
+        this.bufferSize = bufferSize;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: StreamingTransform <input> <output> [chunks]");
+            return;
+        }
+        // Same mapping as Solution.transformWithStreams()
+        StreamingTransform transform = new StreamingTransform(String::toUpperCase);
+        Report report = args.length > 2
+                ? transform.runParallel(Paths.get(args[0]), Paths.get(args[1]), Integer.parseInt(args[2]))
+                : transform.run(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(report);
+    }
+
+    /**
+     * Single-threaded: read → map → write in one pass
+     */
+    public Report run(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+                FileChannel out = openForWrite(output)) {
+            long[] counts = transformRange(in, 0, in.size(), out);
+            return new Report(counts[0], in.size(), counts[1], System.nanoTime() - start, 1);
+        }
+    }
+
+    /**
+     * Parallel: split at line boundaries, transform chunks concurrently
+     */
+    public Report runParallel(Path input, Path output, int chunks) throws IOException {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("chunks must be >= 1: " + chunks);
+        }
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long[] bounds = lineAlignedBounds(in, chunks);
+            int chunkCount = bounds.length - 1;
+
+            Path dir = output.toAbsolutePath().getParent();
+            List<Path> parts = new ArrayList<>(chunkCount);
+            try {
+                for (int i = 0; i < chunkCount; i++) {
+                    parts.add(Files.createTempFile(dir, "transform-part-" + i + "-", ".tmp"));
+                }
+
+                // One task per chunk; each task owns its buffers and part file
+                long[][] counts = new long[chunkCount][];
+                IntStream.range(0, chunkCount).parallel().forEach(i -> {
+                    try (FileChannel part = openForWrite(parts.get(i))) {
+                        counts[i] = transformRange(in, bounds[i], bounds[i + 1], part);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                // Stitch parts together in chunk order (zero-copy transfer)
+                long lines = 0;
+                long bytesOut = 0;
+                try (FileChannel out = openForWrite(output)) {
+                    for (int i = 0; i < chunkCount; i++) {
+                        try (FileChannel part = FileChannel.open(parts.get(i), StandardOpenOption.READ)) {
+                            long position = 0;
+                            long size = part.size();
+                            while (position < size) {
+                                position += part.transferTo(position, size - position, out);
+                            }
+                        }
+                        lines += counts[i][0];
+                        bytesOut += counts[i][1];
+                    }
+                }
+                return new Report(lines, in.size(), bytesOut, System.nanoTime() - start, chunkCount);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                for (Path part : parts) {
+                    Files.deleteIfExists(part);
+                }
+            }
+        }
+    }
+
+    /**
+     * Transform the lines in input[start, end) and write them to out.
+     * start must be 0 or just after a '\n'. Returns {lines, bytesWritten}.
+     */
+    private long[] transformRange(FileChannel in, long start, long end, WritableByteChannel out)
+            throws IOException {
+        ByteBuffer inBuf = ByteBuffer.allocate(bufferSize);
+        ByteBuffer outBuf = ByteBuffer.allocate(bufferSize);
+        long[] counts = new long[2];
+
+        long position = start;
+        while (position < end) {
+            // Line longer than the buffer: grow just enough to hold it
+            if (!inBuf.hasRemaining()) {
+                inBuf = grow(inBuf);
+            }
+            inBuf.limit((int) Math.min(inBuf.capacity(), inBuf.position() + (end - position)));
+            int read = in.read(inBuf, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+
+            inBuf.flip();
+            consumeLines(inBuf, outBuf, out, counts);
+            inBuf.compact();
+        }
+
+        // Last line without a trailing '\n'
+        inBuf.flip();
+        if (inBuf.hasRemaining()) {
+            emit(inBuf.array(), inBuf.position(), inBuf.limit(), false, outBuf, out, counts);
+        }
+
+        flush(outBuf, out, counts);
+        return counts;
+    }
+
+    /**
+     * Emit every complete line in buf, leaving a partial line unread
+     */
+    private void consumeLines(ByteBuffer buf, ByteBuffer outBuf, WritableByteChannel out, long[] counts)
+            throws IOException {
+        byte[] bytes = buf.array();
+        int lineStart = buf.position();
+        int limit = buf.limit();
+        for (int i = lineStart; i < limit; i++) {
+            if (bytes[i] == LF) {
+                emit(bytes, lineStart, i, true, outBuf, out, counts);
+                lineStart = i + 1;
+            }
+        }
+        buf.position(lineStart);
+    }
+
+    private void emit(byte[] bytes, int from, int to, boolean newline, ByteBuffer outBuf,
+            WritableByteChannel out, long[] counts) throws IOException {
+        boolean crlf = newline && to > from && bytes[to - 1] == CR;
+        int contentEnd = crlf ? to - 1 : to;
+
+        String line = new String(bytes, from, contentEnd - from, StandardCharsets.UTF_8);
+        byte[] mapped = mapper.apply(line).getBytes(StandardCharsets.UTF_8);
+        int terminator = crlf ? 2 : newline ? 1 : 0;
+
+        if (outBuf.remaining() < mapped.length + terminator) {
+            flush(outBuf, out, counts);
+        }
+        if (outBuf.remaining() < mapped.length + terminator) {
+            // Single result bigger than the whole buffer: write it directly
+            writeFully(ByteBuffer.wrap(mapped), out, counts);
+        } else {
+            outBuf.put(mapped);
+        }
+        if (crlf) {
+            outBuf.put(CR);
+        }
+        if (newline) {
+            outBuf.put(LF);
+        }
+        counts[0]++;
+    }
+
+    private static void flush(ByteBuffer outBuf, WritableByteChannel out, long[] counts) throws IOException {
+        outBuf.flip();
+        writeFully(outBuf, out, counts);
+        outBuf.clear();
+    }
+
+    private static void writeFully(ByteBuffer buf, WritableByteChannel out, long[] counts) throws IOException {
+        while (buf.hasRemaining()) {
+            counts[1] += out.write(buf);
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer full) {
+        ByteBuffer bigger = ByteBuffer.allocate(full.capacity() * 2);
+        full.flip();
+        bigger.put(full);
+        return bigger;
+    }
+
+    /**
+     * Split [0, size) into at most n ranges, each starting at a line start
+     */
+    private static long[] lineAlignedBounds(FileChannel in, int n) throws IOException {
+        long size = in.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        for (int i = 1; i < n; i++) {
+            long lineStart = nextLineStart(in, size * i / n);
+            if (lineStart > bounds.get(bounds.size() - 1) && lineStart < size) {
+                bounds.add(lineStart);
+            }
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * First line start at or after offset (position right after a '\n')
+     */
+    private static long nextLineStart(FileChannel in, long offset) throws IOException {
+        if (offset == 0) {
+            return 0;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long position = offset - 1; // offset itself is a line start if offset-1 is '\n'
+        while (true) {
+            probe.clear();
+            int read = in.read(probe, position);
+            if (read <= 0) {
+                return in.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == LF) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * What a run did and how fast
+     */
+    public static final class Report {
+        private final long lines;
+        private final long bytesRead;
+        private final long bytesWritten;
+        private final long nanos;
+        private final int chunks;
+
+        Report(long lines, long bytesRead, long bytesWritten, long nanos, int chunks) {
+            this.lines = lines;
+            this.bytesRead = bytesRead;
+            this.bytesWritten = bytesWritten;
+            this.nanos = nanos;
+            this.chunks = chunks;
+        }
+
+        public long getLines() {
+            return lines;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getChunks() {
+            return chunks;
+        }
+
+        /**
+         * Input throughput in MB/s (1 MB = 2^20 bytes)
+         */
+        public double getMegabytesPerSecond() {
+            return nanos == 0 ? 0 : bytesRead / (1024.0 * 1024.0) / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d lines, %,d bytes in, %,d bytes out, %d chunk(s), %.1f ms, %.1f MB/s",
+                    lines, bytesRead, bytesWritten, chunks, nanos / 1e6, getMegabytesPerSecond());
+        }
+    }
+}
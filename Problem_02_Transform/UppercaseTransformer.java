@@ -0,0 +1,159 @@
+package streams.mastery.problem02;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Bulk uppercase with a Latin-1 fast path
+ *
+ * See: concept.md → "Performance: Uppercase Without the Overhead"
+ *
+ * Why?
+ * - String.toUpperCase() looks up the default locale on every call
+ * - It maps each char through locale-aware Unicode code (toUpperCaseEx)
+ * - A new String whenever something changes ("RAM" comes back as is)
+ * - collect(toList()) grows an ArrayList step by step
+ *
+ * How?
+ * 1. Scan the name with a 256-entry table (ASCII + Latin-1)
+ * 2. Nothing changes  → return the SAME String instance (no allocation)
+ * 3. Only table chars → map into a reusable byte[] → one new String
+ * 4. Anything else    → fall back to name.toUpperCase()
+ * 5. Results go into an output array sized once from the input
+ *
+ * Output is always equal to name.toUpperCase() with the default locale.
+ * In Turkish/Azeri/Lithuanian locales (special 'i' rules) every name takes
+ * the fallback path.
+ *
+ * NOT thread-safe (reuses its scratch buffer): use one per thread.
+ */
+public final class UppercaseTransformer {
+
+    // Marks Latin-1 chars whose uppercase is outside Latin-1 or longer:
+    // 'µ' (U+00B5) → 'Μ', 'ß' (U+00DF) → "SS", 'ÿ' (U+00FF) → 'Ÿ'
+    private static final short SLOW = -1;
+
+    private static final short[] UPPER = buildTable();
+
+    private static final Set<String> SPECIAL_CASING_LANGUAGES = Set.of("tr", "az", "lt");
+
+    private final boolean fastPathAllowed;
+    private byte[] scratch = new byte[32];
+
+    public UppercaseTransformer() {
+        this(Locale.getDefault());
+    }
+
+    public UppercaseTransformer(Locale locale) {
+        this.fastPathAllowed = !SPECIAL_CASING_LANGUAGES.contains(locale.getLanguage());
+    }
+
+    private static short[] buildTable() {
+        short[] table = new short[256];
+        for (int c = 0; c < 256; c++) {
+            table[c] = (short) c;
+        }
+        for (int c = 'a'; c <= 'z'; c++) {
+            table[c] = (short) (c - 'a' + 'A');
+        }
+        // Latin-1 lowercase à..þ → À..Þ (skipping ÷, which has no case)
+        for (int c = 0xE0; c <= 0xFE; c++) {
+            if (c != 0xF7) {
+                table[c] = (short) (c - 0x20);
+            }
+        }
+        table[0xB5] = SLOW;
+        table[0xDF] = SLOW;
+        table[0xFF] = SLOW;
+        return table;
+    }
+
+    /**
+     * Uppercase one name - returns the same instance if already uppercase
+     */
+    public String toUpperCase(String name) {
+        if (!fastPathAllowed) {
+            return name.toUpperCase();
+        }
+
+        int length = name.length();
+
+        // Pass 1: find the first char that changes (most names stop early)
+        int first = 0;
+        for (; first < length; first++) {
+            char c = name.charAt(first);
+            if (c >= 256 || UPPER[c] == SLOW) {
+                return name.toUpperCase();
+            }
+            if (UPPER[c] != c) {
+                break;
+            }
+        }
+        if (first == length) {
+            return name; // Already uppercase - no allocation
+        }
+
+        // Pass 2: copy the unchanged prefix, map the rest through the table
+        byte[] bytes = scratch(length);
+        for (int i = 0; i < first; i++) {
+            bytes[i] = (byte) name.charAt(i);
+        }
+        for (int i = first; i < length; i++) {
+            char c = name.charAt(i);
+            short upper = c < 256 ? UPPER[c] : SLOW;
+            if (upper == SLOW) {
+                return name.toUpperCase();
+            }
+            bytes[i] = (byte) upper;
+        }
+
+        // ISO_8859_1 decoding is a straight byte copy for compact strings
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Uppercase in[from, to) into out[outFrom, ...) - no collection growth
+     */
+    public void transform(String[] in, int from, int to, String[] out, int outFrom) {
+        if (from < 0 || to > in.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length "
+                    + in.length);
+        }
+        if (outFrom < 0 || outFrom + (to - from) > out.length) {
+            throw new IndexOutOfBoundsException("Output too small: need " + (to - from) + " slots from " + outFrom
+                    + ", length " + out.length);
+        }
+        for (int i = from, j = outFrom; i < to; i++, j++) {
+            out[j] = toUpperCase(in[i]);
+        }
+    }
+
+    /**
+     * Uppercase every name into a pre-sized array
+     */
+    public String[] transform(List<String> names) {
+        String[] out = new String[names.size()];
+        int i = 0;
+        for (String name : names) {
+            out[i++] = toUpperCase(name);
+        }
+        return out;
+    }
+
+    /**
+     * Same as transform(List) but returned as a fixed-size List view of the array
+     */
+    public List<String> transformToList(List<String> names) {
+        return Arrays.asList(transform(names));
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,221 @@
+package streams.mastery.problem03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Secondary indexes for repeated findFirst() lookups
+ *
+ * See: concept.md → "Performance: Indexing Repeated Lookups"
+ *
+ * findWithStreams() scans the whole list for EVERY query. When the same
+ * list is queried thousands of times, build the index once instead:
+ *
+ * - id index:   HashMap id → first employee with that id    → O(1)
+ * - dept index: per department, salaries sorted ascending    → O(log n)
+ *
+ * Keeping findFirst() semantics:
+ * "First IT employee with salary > X" means the EARLIEST in list order,
+ * not the lowest salary. So each department also stores, for every
+ * position in salary order, the smallest list position from there to the
+ * end (a suffix minimum). Binary search finds where salary > X starts;
+ * the suffix minimum at that point IS the findFirst() answer.
+ *
+ * of() builds in bulk: (salary, position) pairs per department, one
+ * stable sort, one backward pass for the suffix minimums → O(n log n).
+ *
+ * add() appends in list order, so existing suffix minimums never change -
+ * only the new slot needs one. But it inserts into a sorted array: the
+ * tail shift makes one add O(department size). That is the trade-off for
+ * O(log n) lookups on two flat arrays; for many employees at once use of().
+ *
+ * NOT thread-safe for concurrent add(): guard writes externally.
+ */
+public final class EmployeeIndex {
+
+    private final List<Employee> employees = new ArrayList<>();
+    private final Map<String, Employee> byId = new HashMap<>();
+    private final Map<String, DepartmentIndex> byDepartment = new HashMap<>();
+
+    /**
+     * Bulk build: O(n log n), not n separate add() calls
+     */
+    public static EmployeeIndex of(List<Employee> employees) {
+        EmployeeIndex index = new EmployeeIndex();
+        for (Employee employee : employees) {
+            int position = index.employees.size();
+            index.employees.add(employee);
+            index.byId.putIfAbsent(employee.getId(), employee);
+            index.byDepartment.computeIfAbsent(employee.getDepartment(), d -> new DepartmentIndex())
+                    .append(employee.getSalary(), position);
+        }
+        index.byDepartment.values().forEach(DepartmentIndex::sortAppended);
+        return index;
+    }
+
+    /**
+     * Append one employee (same as adding to the end of the list)
+     *
+     * O(department size): shifts the department's sorted tail by one slot.
+     */
+    public void add(Employee employee) {
+        int position = employees.size();
+        employees.add(employee);
+        byId.putIfAbsent(employee.getId(), employee); // keep the FIRST for duplicate ids
+        byDepartment.computeIfAbsent(employee.getDepartment(), d -> new DepartmentIndex())
+                .add(employee.getSalary(), position);
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Same as: stream().filter(e -> e.getId().equals(id)).findFirst()
+     */
+    public Optional<Employee> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Same as: stream().filter(e -> e.getDepartment().equals(department)).findFirst()
+     */
+    public Optional<Employee> findFirstInDepartment(String department) {
+        DepartmentIndex index = byDepartment.get(department);
+        return index == null ? Optional.empty() : Optional.of(employees.get(index.suffixMinPosition[0]));
+    }
+
+    /**
+     * Same as:
+     *   stream().filter(e -> e.getDepartment().equals(department))
+     *           .filter(e -> e.getSalary() > minSalaryExclusive)
+     *           .findFirst()
+     */
+    public Optional<Employee> findFirstInDepartmentWithSalaryAbove(String department, double minSalaryExclusive) {
+        DepartmentIndex index = byDepartment.get(department);
+        if (index == null) {
+            return Optional.empty();
+        }
+        int position = index.firstPositionAbove(minSalaryExclusive);
+        return position < 0 ? Optional.empty() : Optional.of(employees.get(position));
+    }
+
+    /**
+     * Same as: anyMatch(e -> dept matches && e.getSalary() > minSalaryExclusive)
+     */
+    public boolean anyInDepartmentWithSalaryAbove(String department, double minSalaryExclusive) {
+        DepartmentIndex index = byDepartment.get(department);
+        return index != null && index.firstPositionAbove(minSalaryExclusive) >= 0;
+    }
+
+    /**
+     * Employees in insertion (encounter) order - read-only view
+     */
+    public List<Employee> employees() {
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * One department: salaries sorted ascending + suffix minimum positions
+     */
+    private static final class DepartmentIndex {
+        private double[] salaries = new double[8];
+        private int[] suffixMinPosition = new int[8]; // min list position among slots [i, size)
+        private int size;
+
+        void add(double salary, int position) {
+            if (size == salaries.length) {
+                int capacity = size * 2;
+                salaries = Arrays.copyOf(salaries, capacity);
+                suffixMinPosition = Arrays.copyOf(suffixMinPosition, capacity);
+            }
+
+            // Insert after equal salaries; shift the tail one slot right
+            int slot = upperBound(salary);
+            int tail = size - slot;
+            System.arraycopy(salaries, slot, salaries, slot + 1, tail);
+            System.arraycopy(suffixMinPosition, slot, suffixMinPosition, slot + 1, tail);
+
+            salaries[slot] = salary;
+            // position is the largest so far → it never lowers an existing minimum
+            suffixMinPosition[slot] = tail > 0 ? suffixMinPosition[slot + 1] : position;
+            size++;
+        }
+
+        /**
+         * Bulk build, step 1: unsorted, positions ascending; sortAppended() must follow
+         */
+        void append(double salary, int position) {
+            if (size == salaries.length) {
+                int capacity = size * 2;
+                salaries = Arrays.copyOf(salaries, capacity);
+                suffixMinPosition = Arrays.copyOf(suffixMinPosition, capacity);
+            }
+            salaries[size] = salary;
+            suffixMinPosition[size] = position; // holds the plain position until sortAppended()
+            size++;
+        }
+
+        /**
+         * Bulk build, step 2: stable sort by salary (equal salaries stay in list
+         * order, as add() would place them), then suffix minimums right to left
+         */
+        void sortAppended() {
+            double[] salaryBuffer = new double[size];
+            int[] positionBuffer = new int[size];
+            // Bottom-up merge sort over both arrays; take from the right run only if strictly lower
+            for (int width = 1; width < size; width *= 2) {
+                for (int from = 0; from < size; from += 2 * width) {
+                    int mid = Math.min(from + width, size);
+                    int to = Math.min(from + 2 * width, size);
+                    int left = from;
+                    int right = mid;
+                    for (int out = from; out < to; out++) {
+                        if (right < to && (left == mid || salaries[right] < salaries[left])) {
+                            salaryBuffer[out] = salaries[right];
+                            positionBuffer[out] = suffixMinPosition[right++];
+                        } else {
+                            salaryBuffer[out] = salaries[left];
+                            positionBuffer[out] = suffixMinPosition[left++];
+                        }
+                    }
+                }
+                System.arraycopy(salaryBuffer, 0, salaries, 0, size);
+                System.arraycopy(positionBuffer, 0, suffixMinPosition, 0, size);
+            }
+            for (int slot = size - 2; slot >= 0; slot--) {
+                suffixMinPosition[slot] = Math.min(suffixMinPosition[slot], suffixMinPosition[slot + 1]);
+            }
+        }
+
+        /**
+         * Earliest list position with salary > min, or -1
+         */
+        int firstPositionAbove(double min) {
+            int slot = upperBound(min);
+            return slot == size ? -1 : suffixMinPosition[slot];
+        }
+
+        /**
+         * First slot whose salary is > value
+         */
+        private int upperBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (salaries[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package streams.mastery.problem03;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Parallel findFirst() / findAny() that stops wasted work early
+ *
+ * See: concept.md → "Performance: Parallel Search With Early Cancellation"
+ *
+ * parallelStream().filter(...).findFirst() keeps scanning ranges AFTER
+ * a match is known, and pays for ordering even when any match would do.
+ *
+ * This engine splits the list into ranges on a ForkJoinPool and shares
+ * ONE winner index between all workers:
+ *
+ * - findAny():   first match found wins → every worker stops at its
+ *                next check (every BLOCK_SIZE elements)
+ * - findFirst(): the LOWEST matching index wins → a worker stops as soon
+ *                as the winner lies BEFORE its range (it can't win anymore);
+ *                workers on earlier ranges keep going, so the answer equals
+ *                the sequential findFirst()
+ *
+ * Each Result reports how many elements were scanned in total and how
+ * many were scanned "after the winning match" - work that could not
+ * change the answer.
+ *
+ * Lists without RandomAccess (e.g. LinkedList) are scanned sequentially.
+ */
+public final class ParallelSearch {
+
+    // Cancellation is checked once per block
+    static final int BLOCK_SIZE = 1024;
+
+    private static final int MIN_LEAF_SIZE = 4 * BLOCK_SIZE;
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private ParallelSearch() {
+    }
+
+    public static <T> Result<T> findFirst(List<T> list, Predicate<? super T> predicate) {
+        return search(list, predicate, true, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Result<T> findAny(List<T> list, Predicate<? super T> predicate) {
+        return search(list, predicate, false, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Result<T> findFirst(List<T> list, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return search(list, predicate, true, pool);
+    }
+
+    public static <T> Result<T> findAny(List<T> list, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return search(list, predicate, false, pool);
+    }
+
+    private static <T> Result<T> search(List<T> list, Predicate<? super T> predicate, boolean ordered,
+            ForkJoinPool pool) {
+        if (!(list instanceof RandomAccess)) {
+            return sequential(list, predicate, ordered);
+        }
+
+        // ~8 leaves per worker gives work-stealing room without tiny tasks
+        int leafSize = Math.max(MIN_LEAF_SIZE, list.size() / (pool.getParallelism() * 8));
+        Search<T> search = new Search<>(list, predicate, ordered, leafSize);
+        pool.invoke(new SearchTask<>(search, 0, list.size()));
+
+        int winner = search.winner.get();
+        long scannedAfterMatch = ordered ? search.scannedPastIndex(winner) : search.scannedAfterMatch.sum();
+        return new Result<>(
+                winner == NONE ? -1 : winner,
+                winner == NONE ? null : list.get(winner),
+                search.scanned.sum(),
+                winner == NONE ? 0 : scannedAfterMatch,
+                ordered);
+    }
+
+    private static <T> Result<T> sequential(List<T> list, Predicate<? super T> predicate, boolean ordered) {
+        int index = 0;
+        for (T element : list) {
+            if (predicate.test(element)) {
+                return new Result<>(index, element, index + 1, 0, ordered);
+            }
+            index++;
+        }
+        return new Result<>(-1, null, index, 0, ordered);
+    }
+
+    /**
+     * State shared by every task of one search
+     */
+    private static final class Search<T> {
+        final List<T> list;
+        final Predicate<? super T> predicate;
+        final boolean ordered;
+        final int leafSize;
+
+        final AtomicInteger winner = new AtomicInteger(NONE);
+        final LongAdder scanned = new LongAdder();
+        final LongAdder scannedAfterMatch = new LongAdder(); // findAny only
+        final Queue<int[]> scannedRanges = new ConcurrentLinkedQueue<>(); // findFirst only
+
+        Search(List<T> list, Predicate<? super T> predicate, boolean ordered, int leafSize) {
+            this.list = list;
+            this.predicate = predicate;
+            this.ordered = ordered;
+            this.leafSize = leafSize;
+        }
+
+        /**
+         * Can a range starting at index still produce the answer?
+         */
+        boolean cancelled(int index) {
+            int current = winner.get();
+            return ordered ? current < index : current != NONE;
+        }
+
+        /**
+         * Returns true if index became (or improved) the winner
+         */
+        boolean publish(int index) {
+            if (!ordered) {
+                return winner.compareAndSet(NONE, index);
+            }
+            int current;
+            while (index < (current = winner.get())) {
+                if (winner.compareAndSet(current, index)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * findFirst: elements scanned with an index past the winner
+         */
+        long scannedPastIndex(int winnerIndex) {
+            long past = 0;
+            for (int[] range : scannedRanges) {
+                past += Math.max(0, range[1] - Math.max(range[0], winnerIndex + 1));
+            }
+            return past;
+        }
+    }
+
+    private static final class SearchTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search<T> search;
+        private final int from;
+        private final int to;
+
+        SearchTask(Search<T> search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (search.cancelled(from)) {
+                return;
+            }
+            if (to - from > search.leafSize) {
+                int mid = (from + to) >>> 1;
+                SearchTask<T> right = new SearchTask<>(search, mid, to);
+                right.fork();
+                // Left first: for findFirst the earlier range matters most
+                new SearchTask<>(search, from, mid).compute();
+                right.join();
+            } else {
+                scanLeaf();
+            }
+        }
+
+        private void scanLeaf() {
+            List<T> list = search.list;
+            Predicate<? super T> predicate = search.predicate;
+
+            int i = from;
+            boolean matched = false;
+            while (i < to && !matched && !search.cancelled(i)) {
+                int blockEnd = Math.min(to, i + BLOCK_SIZE);
+                int j = i;
+                boolean won = false;
+                for (; j < blockEnd; j++) {
+                    if (predicate.test(list.get(j))) {
+                        won = search.publish(j);
+                        matched = true;
+                        j++;
+                        break;
+                    }
+                }
+                int count = j - i;
+                search.scanned.add(count);
+                // findAny: a block that ends after someone else already won was wasted
+                if (!search.ordered && !won && search.winner.get() != NONE) {
+                    search.scannedAfterMatch.add(count);
+                }
+                i = j;
+            }
+
+            if (search.ordered && i > from) {
+                search.scannedRanges.add(new int[] { from, i });
+            }
+        }
+    }
+
+    /**
+     * Outcome of one search plus its work counters
+     */
+    public static final class Result<T> {
+        private final int index;
+        private final T match;
+        private final long scanned;
+        private final long scannedAfterMatch;
+        private final boolean ordered;
+
+        Result(int index, T match, long scanned, long scannedAfterMatch, boolean ordered) {
+            this.index = index;
+            this.match = match;
+            this.scanned = scanned;
+            this.scannedAfterMatch = scannedAfterMatch;
+            this.ordered = ordered;
+        }
+
+        public Optional<T> getMatch() {
+            return Optional.ofNullable(match);
+        }
+
+        /**
+         * List index of the match, or -1
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Predicate evaluations across all workers
+         */
+        public long getScanned() {
+            return scanned;
+        }
+
+        /**
+         * findFirst: elements scanned past the winning index.
+         * findAny: elements in blocks that finished after the winner was
+         * published (block granularity, so an upper bound).
+         */
+        public long getScannedAfterMatch() {
+            return scannedAfterMatch;
+        }
+
+        public boolean isOrdered() {
+            return ordered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s → %s, scanned=%,d, scannedAfterMatch=%,d",
+                    ordered ? "findFirst" : "findAny",
+                    match == null ? "NONE" : match + " @" + index,
+                    scanned,
+                    scannedAfterMatch);
+        }
+    }
+}
@@ -32,6 +32,21 @@ public class Solution {
         Optional<Employee> result2 = findWithStreams(employees);
         printOptionalResult(result2);
 
+        // With an index (build once, query many times)
+        System.out.println("\n--- With EmployeeIndex ---");
+        EmployeeIndex index = EmployeeIndex.of(employees);
+        printOptionalResult(findWithIndex(index));
+        System.out.println("Lookup E004: " + index.findById("E004").map(Employee::getName).orElse("NONE"));
+        System.out.println("Lookup E999: " + index.findById("E999").map(Employee::getName).orElse("NONE"));
+        index.add(new Employee("E006", "Anil", 90000, "IT"));
+        System.out.println("After adding Anil (IT, 90000), first IT > 60000: "
+                + index.findFirstInDepartmentWithSalaryAbove("IT", 60000).map(Employee::getName).orElse("NONE"));
+
+        // Parallel search with early cancellation
+        System.out.println("\n--- With ParallelSearch ---");
+        printOptionalResult(findWithParallelSearch(employees));
+        System.out.println("Any IT: " + ParallelSearch.findAny(employees, e -> e.getDepartment().equals("IT")));
+
         // Edge cases
         System.out.println("\n--- Edge Cases ---");
         testEdgeCases(employees);
@@ -71,6 +86,30 @@ public class Solution {
                 .findFirst(); // Terminal: get first
     }
 
+    /**
+     * Same answer as findWithStreams(), using a prebuilt EmployeeIndex
+     * 
+     * See concept.md: "Performance: Indexing Repeated Lookups"
+     * 
+     * Binary search on IT salaries instead of scanning every employee.
+     */
+    public static Optional<Employee> findWithIndex(EmployeeIndex index) {
+        return index.findFirstInDepartmentWithSalaryAbove("IT", 50000);
+    }
+
+    /**
+     * Same answer as findWithStreams(), searched in parallel
+     * 
+     * See concept.md: "Performance: Parallel Search With Early Cancellation"
+     * 
+     * Workers on ranges AFTER a known match stop scanning.
+     */
+    public static Optional<Employee> findWithParallelSearch(List<Employee> employees) {
+        return ParallelSearch.findFirst(employees,
+                emp -> emp.getDepartment().equals("IT") && emp.getSalary() > 50000)
+                .getMatch();
+    }
+
     public static void testEdgeCases(List<Employee> employees) {
 
         // Case 1: What if no match? Using orElse()
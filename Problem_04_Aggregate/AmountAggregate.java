@@ -0,0 +1,52 @@
+package streams.mastery.problem04;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+
+/**
+ * count / sum / min / max of the amounts in one scanned range
+ *
+ * Shared by TransactionTable and TransactionLedger: each range is scanned
+ * in one tight loop, then partial results are merged with combine()
+ * (that is what makes the parallel scans work).
+ */
+final class AmountAggregate {
+    final long count;
+    final double sum;
+    final double min;
+    final double max;
+
+    AmountAggregate() {
+        this(0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
+
+    AmountAggregate(long count, double sum, double min, double max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    AmountAggregate combine(AmountAggregate other) {
+        return new AmountAggregate(count + other.count, sum + other.sum,
+                Math.min(min, other.min), Math.max(max, other.max));
+    }
+
+    OptionalDouble minimum() {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(min);
+    }
+
+    OptionalDouble maximum() {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(max);
+    }
+
+    OptionalDouble average() {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum / count);
+    }
+
+    DoubleSummaryStatistics toStatistics() {
+        return count == 0
+                ? new DoubleSummaryStatistics()
+                : new DoubleSummaryStatistics(count, min, max, sum);
+    }
+}
@@ -1,5 +1,9 @@
 package streams.mastery.problem04;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
@@ -11,7 +15,7 @@ import java.util.Optional;
  */
 public class Solution {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         List<Transaction> transactions = Arrays.asList(
                 new Transaction("T1", 1000.0, "INR"),
                 new Transaction("T2", 500.0, "USD"),
@@ -38,6 +42,47 @@ public class Solution {
         double result3 = sumWithReduce(transactions);
         System.out.println("Total INR: " + result3);
 
+        // SIMD kernel over columns
+        System.out.println("\n--- Sum Kernel (" + SumKernels.describe() + ") ---");
+        double[] amounts = transactions.stream().mapToDouble(Transaction::getAmount).toArray();
+        boolean[] isInr = new boolean[transactions.size()];
+        for (int i = 0; i < isInr.length; i++) {
+            isInr[i] = transactions.get(i).getCurrency().equals("INR");
+        }
+        double result4 = sumWithKernel(amounts, isInr);
+        System.out.println("Total INR: " + result4);
+
+        // Column store with dictionary-encoded currencies
+        System.out.println("\n--- TransactionTable (columns) ---");
+        TransactionTable table = TransactionTable.from(transactions);
+        System.out.println("Total INR: " + sumWithTable(table));
+        System.out.println("INR stats (parallel): " + table.summaryStatistics("INR", true));
+
+        // Off-heap ledger, persisted and mapped back
+        System.out.println("\n--- TransactionLedger (off-heap) ---");
+        Path ledgerFile = Files.createTempFile("ledger", ".bin");
+        try {
+            TransactionLedger.from(transactions).persist(ledgerFile);
+            try (TransactionLedger ledger = TransactionLedger.map(ledgerFile)) {
+                System.out.println("Total INR: " + sumWithLedger(ledger));
+                System.out.println("Row 2 from file: " + ledger.get(2));
+            }
+        } finally {
+            Files.deleteIfExists(ledgerFile);
+        }
+
+        // Live feed: one update per transaction, windows by event time
+        System.out.println("\n--- WindowedAggregator (live feed) ---");
+        WindowedAggregator live = WindowedAggregator.slidingByTime(Duration.ofSeconds(2), Duration.ofSeconds(1))
+                .onWindowClosed(window -> System.out.println("Closed " + window));
+        long eventTime = 0;
+        for (Transaction t : transactions) {
+            live.accept(t, eventTime);
+            eventTime += 700; // one transaction every 0.7s
+        }
+        System.out.println("Total INR: " + sumWithWindow(live));
+        System.out.println("Current " + live.currentWindow());
+
         // More aggregation examples
         System.out.println("\n--- More Aggregation Examples ---");
         moreExamples(transactions);
@@ -91,6 +136,57 @@ public class Solution {
                 .reduce(0.0, Double::sum); // Same as (a, b) -> a + b
     }
 
+    /**
+     * Column approach using SumKernels
+     * 
+     * See concept.md: "Performance: SIMD Sum Kernels"
+     * 
+     * Same filter + sum as sumWithMapToDouble(), but on columns:
+     * 1. amounts[i] → the amount of transaction i (primitive double[])
+     * 2. isInr[i]   → the currency filter, evaluated once
+     * 3. Kernel adds LANES amounts per instruction (masked by isInr)
+     */
+    public static double sumWithKernel(double[] amounts, boolean[] isInr) {
+        return SumKernels.sumWhere(amounts, isInr);
+    }
+
+    /**
+     * Column approach using TransactionTable
+     * 
+     * See concept.md: "Performance: Columns Instead of Objects"
+     * 
+     * Currency filter = byte compare against the code for "INR",
+     * amounts read from one contiguous double[].
+     */
+    public static double sumWithTable(TransactionTable table) {
+        return table.sum("INR", false);
+    }
+
+    /**
+     * Off-heap approach using TransactionLedger
+     * 
+     * See concept.md: "Performance: Off-Heap Ledger"
+     * 
+     * Rows live outside the heap; the scan reads raw bytes and
+     * never creates a Transaction object.
+     */
+    public static double sumWithLedger(TransactionLedger ledger) {
+        return ledger.sum("INR", false);
+    }
+
+    /**
+     * Live approach using WindowedAggregator
+     * 
+     * See concept.md: "Performance: Live Windowed Aggregates"
+     * 
+     * The totals were updated as each transaction arrived,
+     * so reading them does not scan anything.
+     */
+    public static double sumWithWindow(WindowedAggregator aggregator) {
+        DoubleSummaryStatistics inr = aggregator.totals().get("INR");
+        return inr == null ? 0.0 : inr.getSum();
+    }
+
     public static void moreExamples(List<Transaction> transactions) {
 
         // Example 1: Count INR transactions
@@ -0,0 +1,86 @@
+package streams.mastery.problem04;
+
+/**
+ * Entry point for the sum kernels
+ *
+ * See: concept.md → "Performance: SIMD Sum Kernels"
+ *
+ * Picks the implementation ONCE at class load:
+ * - VECTOR: jdk.incubator.vector is present (run with --add-modules jdk.incubator.vector)
+ * - SCALAR: plain loop, used when the module is missing, when the vector
+ *           class fails to link, or when -Dstreams.mastery.scalar=true
+ *
+ * Works on columns (double[] amounts + boolean[] include), not on
+ * Transaction objects - see Solution.sumWithKernel().
+ */
+public final class SumKernels {
+
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private SumKernels() {
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    public static String describe() {
+        return VECTORIZED
+                ? "vector (" + VectorSumKernel.lanes() + " double lanes)"
+                : "scalar";
+    }
+
+    public static double sum(double[] values) {
+        return VECTORIZED
+                ? VectorSumKernel.sum(values, 0, values.length)
+                : sumScalar(values);
+    }
+
+    /**
+     * Sum of values[i] where include[i] is true (e.g. currency == INR)
+     */
+    public static double sumWhere(double[] values, boolean[] include) {
+        if (values.length != include.length) {
+            throw new IllegalArgumentException("Column lengths differ: " + values.length + " vs " + include.length);
+        }
+        return VECTORIZED
+                ? VectorSumKernel.sumWhere(values, include, 0, values.length)
+                : sumWhereScalar(values, include);
+    }
+
+    /**
+     * Reference implementations - one element at a time
+     */
+    public static double sumScalar(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    public static double sumWhereScalar(double[] values, boolean[] include) {
+        double total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (include[i]) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    private static boolean detectVectorSupport() {
+        if (Boolean.getBoolean("streams.mastery.scalar")) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            // Force linking now so a broken setup falls back instead of failing later
+            return VectorSumKernel.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
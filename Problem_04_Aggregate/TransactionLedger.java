@@ -0,0 +1,330 @@
+package streams.mastery.problem04;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.stream.LongStream;
+
+/**
+ * Off-heap transaction ledger with fixed-width rows
+ *
+ * See: concept.md → "Performance: Off-Heap Ledger"
+ *
+ * Hundreds of millions of Transaction objects do not fit comfortably on
+ * the heap (object headers + Strings + GC scanning). This ledger keeps
+ * every row in direct (off-heap) or file-mapped memory instead:
+ *
+ *   Row layout (32 bytes, little-endian):
+ *   ┌──────────┬──────────┬────────┬─────────┬──────────────────┐
+ *   │ amount   │ currency │ id len │ padding │ id (UTF-8)       │
+ *   │ 8 bytes  │ 4 bytes  │ 1 byte │ 3 bytes │ up to 16 bytes   │
+ *   └──────────┴──────────┴────────┴─────────┴──────────────────┘
+ *
+ * The 3-letter currency code is packed into one int, so the INR filter
+ * is an int compare - no String is ever created during a scan.
+ *
+ * Memory is organized in segments of up to 2^25 rows (1 GB) because a
+ * single ByteBuffer is limited to 2 GB. The last segment starts at 64 KB
+ * and doubles as rows are appended.
+ *
+ * persist() writes a small header + all rows to a file; map() maps that
+ * file back read-only, so startup costs no parsing and no copying.
+ *
+ * NOTE: the tree targets JDK 17, where the MemorySegment/Arena API is
+ * still incubating; direct and mapped ByteBuffers give the same off-heap
+ * layout with a stable API. Direct memory is released when the ledger
+ * becomes unreachable (there is no explicit free in JDK 17).
+ *
+ * NOT thread-safe for concurrent append(); scans may run in parallel.
+ */
+public final class TransactionLedger implements AutoCloseable {
+
+    static final int ROW_BYTES = 32;
+    static final int MAX_ID_BYTES = 16;
+
+    private static final int AMOUNT_OFFSET = 0;
+    private static final int CURRENCY_OFFSET = 8;
+    private static final int ID_LENGTH_OFFSET = 12;
+    private static final int ID_OFFSET = 16;
+
+    // File header: magic, version, row size, row count (padded to one row)
+    private static final long MAGIC = 0x52454744454C5854L; // "TXLEDGER" as little-endian bytes
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = ROW_BYTES;
+
+    private static final int SEGMENT_SHIFT = 25; // 2^25 rows × 32 B = 1 GB
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final int INITIAL_SEGMENT_BYTES = 64 * 1024;
+    private static final int CHUNK_ROWS = 1 << 16;
+    private static final int ALL = 0; // no currency packs to 0
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final FileChannel mappedFrom; // null for an in-memory ledger
+    private long size;
+
+    public TransactionLedger() {
+        this(null);
+    }
+
+    private TransactionLedger(FileChannel mappedFrom) {
+        this.mappedFrom = mappedFrom;
+    }
+
+    public static TransactionLedger from(List<Transaction> transactions) {
+        TransactionLedger ledger = new TransactionLedger();
+        transactions.forEach(ledger::append);
+        return ledger;
+    }
+
+    public void append(Transaction transaction) {
+        append(transaction.getId(), transaction.getAmount(), transaction.getCurrency());
+    }
+
+    public void append(String id, double amount, String currency) {
+        if (isReadOnly()) {
+            throw new UnsupportedOperationException("Ledger is mapped read-only from a file");
+        }
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (idBytes.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Id longer than " + MAX_ID_BYTES + " bytes: " + id);
+        }
+        int packedCurrency = pack(currency);
+
+        int segment = (int) (size >>> SEGMENT_SHIFT);
+        int row = rowOffset(size);
+        if (segment == segments.size()) {
+            segments.add(allocate(Math.min(INITIAL_SEGMENT_BYTES, ROW_BYTES << SEGMENT_SHIFT)));
+        }
+        ByteBuffer buffer = segments.get(segment);
+        if (row + ROW_BYTES > buffer.capacity()) {
+            // Grow the last segment by doubling, up to the full segment size
+            ByteBuffer bigger = allocate(Math.min(buffer.capacity() * 2, ROW_BYTES << SEGMENT_SHIFT));
+            bigger.put(0, buffer, 0, row);
+            segments.set(segment, bigger);
+            buffer = bigger;
+        }
+        buffer.putDouble(row + AMOUNT_OFFSET, amount);
+        buffer.putInt(row + CURRENCY_OFFSET, packedCurrency);
+        buffer.put(row + ID_LENGTH_OFFSET, (byte) idBytes.length);
+        buffer.put(row + ID_OFFSET, idBytes);
+        size++;
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * "INR" → one int (3 ASCII letters), so currency compare is int compare
+     */
+    static int pack(String currency) {
+        if (currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code: " + currency);
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = currency.charAt(i);
+            if (c == 0 || c > 127) {
+                throw new IllegalArgumentException("Currency must be ASCII: " + currency);
+            }
+            packed |= c << (8 * i);
+        }
+        return packed;
+    }
+
+    static String unpack(int packed) {
+        return new String(new char[] {
+                (char) (packed & 0xFF), (char) ((packed >>> 8) & 0xFF), (char) ((packed >>> 16) & 0xFF) });
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isReadOnly() {
+        return mappedFrom != null;
+    }
+
+    /**
+     * Rebuild row i as an object (for display - the scans never do this)
+     */
+    public Transaction get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        ByteBuffer buffer = segments.get((int) (index >>> SEGMENT_SHIFT));
+        int row = rowOffset(index);
+        byte[] idBytes = new byte[buffer.get(row + ID_LENGTH_OFFSET)];
+        buffer.get(row + ID_OFFSET, idBytes);
+        return new Transaction(new String(idBytes, StandardCharsets.UTF_8),
+                buffer.getDouble(row + AMOUNT_OFFSET),
+                unpack(buffer.getInt(row + CURRENCY_OFFSET)));
+    }
+
+    public double sum(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).sum;
+    }
+
+    public long count(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).count;
+    }
+
+    public OptionalDouble min(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).minimum();
+    }
+
+    public OptionalDouble max(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).maximum();
+    }
+
+    public OptionalDouble average(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).average();
+    }
+
+    public DoubleSummaryStatistics summaryStatistics(String currency, boolean parallel) {
+        return aggregate(pack(currency), parallel).toStatistics();
+    }
+
+    /**
+     * All currencies
+     */
+    public DoubleSummaryStatistics summaryStatistics(boolean parallel) {
+        return aggregate(ALL, parallel).toStatistics();
+    }
+
+    private AmountAggregate aggregate(int packedCurrency, boolean parallel) {
+        if (!parallel || size <= CHUNK_ROWS) {
+            return scanRange(packedCurrency, 0, size);
+        }
+        long chunks = (size + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        return LongStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> scanRange(packedCurrency, c * CHUNK_ROWS, Math.min(size, (c + 1) * CHUNK_ROWS)))
+                .reduce(new AmountAggregate(), AmountAggregate::combine);
+    }
+
+    /**
+     * Scan rows [from, to), splitting at segment boundaries
+     */
+    private AmountAggregate scanRange(int packedCurrency, long from, long to) {
+        AmountAggregate result = new AmountAggregate();
+        long row = from;
+        while (row < to) {
+            long segmentEnd = Math.min(to, ((row >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT);
+            result = result.combine(scanSegment(segments.get((int) (row >>> SEGMENT_SHIFT)), packedCurrency,
+                    rowOffset(row), rowOffset(segmentEnd - 1) + ROW_BYTES));
+            row = segmentEnd;
+        }
+        return result;
+    }
+
+    /**
+     * One tight loop over raw bytes: int compare + double math, no objects
+     */
+    private static AmountAggregate scanSegment(ByteBuffer buffer, int packedCurrency, int fromByte, int toByte) {
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int row = fromByte; row < toByte; row += ROW_BYTES) {
+            if (packedCurrency == ALL || buffer.getInt(row + CURRENCY_OFFSET) == packedCurrency) {
+                double amount = buffer.getDouble(row + AMOUNT_OFFSET);
+                count++;
+                sum += amount;
+                min = Math.min(min, amount);
+                max = Math.max(max, amount);
+            }
+        }
+        return new AmountAggregate(count, sum, min, max);
+    }
+
+    private int rowOffset(long index) {
+        return (int) (index & SEGMENT_MASK) * ROW_BYTES;
+    }
+
+    /**
+     * Write header + rows to file (raw bytes, no per-row encoding step)
+     */
+    public void persist(Path file) throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(ROW_BYTES).putLong(size);
+            header.clear();
+            writeFully(out, header);
+
+            long remaining = size;
+            for (ByteBuffer segment : segments) {
+                int rows = (int) Math.min(remaining, 1L << SEGMENT_SHIFT);
+                ByteBuffer slice = segment.duplicate();
+                slice.clear().limit(rows * ROW_BYTES);
+                writeFully(out, slice);
+                remaining -= rows;
+            }
+        }
+    }
+
+    /**
+     * Map a persisted ledger read-only - rows stay in the OS page cache
+     */
+    public static TransactionLedger map(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or EOF
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getLong() != MAGIC) {
+                throw new IOException("Not a transaction ledger file: " + file);
+            }
+            int version = header.getInt();
+            int rowBytes = header.getInt();
+            long rows = header.getLong();
+            if (version != VERSION || rowBytes != ROW_BYTES) {
+                throw new IOException("Unsupported ledger version " + version + " / row size " + rowBytes);
+            }
+            if (channel.size() < HEADER_BYTES + rows * ROW_BYTES) {
+                throw new IOException("Ledger file truncated: " + file);
+            }
+
+            TransactionLedger ledger = new TransactionLedger(channel);
+            long rowsPerSegment = 1L << SEGMENT_SHIFT;
+            for (long first = 0; first < rows; first += rowsPerSegment) {
+                long segmentRows = Math.min(rowsPerSegment, rows - first);
+                ledger.segments.add(channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + first * ROW_BYTES, segmentRows * ROW_BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN));
+            }
+            ledger.size = rows;
+            return ledger;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Releases the file channel of a mapped ledger (no-op in memory)
+     */
+    @Override
+    public void close() throws IOException {
+        if (mappedFrom != null) {
+            mappedFrom.close();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package streams.mastery.problem04;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.stream.IntStream;
+
+/**
+ * Column store for transactions with dictionary-encoded currencies
+ *
+ * See: concept.md → "Performance: Columns Instead of Objects"
+ *
+ * List<Transaction> (row objects):          TransactionTable (columns):
+ *   [T1 → "INR", 1000.0]                      amounts:  [1000.0, 500.0, 2500.0]
+ *   [T2 → "USD",  500.0]                      codes:    [   0,     1,      0 ]
+ *   [T3 → "INR", 2500.0]                      dict:     0 = "INR", 1 = "USD"
+ *
+ * "currency equals INR" becomes "codes[i] == 0": a byte compare over
+ * contiguous memory instead of a pointer chase + String.equals per row.
+ *
+ * Every aggregate from Solution.moreExamples() runs on the columns,
+ * sequentially or in parallel (per-chunk partial results, combined once).
+ *
+ * At most 256 distinct currencies (byte codes).
+ * NOT thread-safe for concurrent add(); queries may run in parallel.
+ */
+public final class TransactionTable {
+
+    static final int MAX_CURRENCIES = 256;
+
+    // Parallel work unit: big enough to amortize task overhead
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    // "No currency filter"
+    private static final int ALL = -1;
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    private String[] ids;
+    private double[] amounts;
+    private byte[] currencyCodes;
+    private int size;
+
+    public TransactionTable() {
+        this(16);
+    }
+
+    public TransactionTable(int initialCapacity) {
+        ids = new String[initialCapacity];
+        amounts = new double[initialCapacity];
+        currencyCodes = new byte[initialCapacity];
+    }
+
+    public static TransactionTable from(List<Transaction> transactions) {
+        TransactionTable table = new TransactionTable(transactions.size());
+        transactions.forEach(table::add);
+        return table;
+    }
+
+    public void add(Transaction transaction) {
+        add(transaction.getId(), transaction.getAmount(), transaction.getCurrency());
+    }
+
+    public void add(String id, double amount, String currency) {
+        if (size == amounts.length) {
+            int capacity = Math.max(16, size * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+        }
+        ids[size] = id;
+        amounts[size] = amount;
+        currencyCodes[size] = (byte) encode(currency);
+        size++;
+    }
+
+    private int encode(String currency) {
+        Integer code = codes.get(currency);
+        if (code != null) {
+            return code;
+        }
+        if (dictionary.size() == MAX_CURRENCIES) {
+            throw new IllegalStateException("More than " + MAX_CURRENCIES + " distinct currencies");
+        }
+        int newCode = dictionary.size();
+        dictionary.add(currency);
+        codes.put(currency, newCode);
+        return newCode;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rebuild row i as an object (for display - the scans never do this)
+     */
+    public Transaction get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return new Transaction(ids[index], amounts[index], dictionary.get(currencyCodes[index] & 0xFF));
+    }
+
+    /**
+     * Same as: filter(currency).mapToDouble(getAmount).sum()
+     */
+    public double sum(String currency, boolean parallel) {
+        return aggregate(currency, parallel).sum;
+    }
+
+    /**
+     * Same as: filter(currency).count()
+     */
+    public long count(String currency, boolean parallel) {
+        return aggregate(currency, parallel).count;
+    }
+
+    public OptionalDouble min(String currency, boolean parallel) {
+        return aggregate(currency, parallel).minimum();
+    }
+
+    public OptionalDouble max(String currency, boolean parallel) {
+        return aggregate(currency, parallel).maximum();
+    }
+
+    public OptionalDouble average(String currency, boolean parallel) {
+        return aggregate(currency, parallel).average();
+    }
+
+    /**
+     * Same as: filter(currency).mapToDouble(getAmount).summaryStatistics()
+     */
+    public DoubleSummaryStatistics summaryStatistics(String currency, boolean parallel) {
+        return aggregate(currency, parallel).toStatistics();
+    }
+
+    /**
+     * Same as: mapToDouble(getAmount).summaryStatistics() - all currencies
+     */
+    public DoubleSummaryStatistics summaryStatistics(boolean parallel) {
+        return aggregate(ALL, parallel).toStatistics();
+    }
+
+    private AmountAggregate aggregate(String currency, boolean parallel) {
+        Integer code = codes.get(currency);
+        // Unknown currency: nothing can match
+        return code == null ? new AmountAggregate() : aggregate(code, parallel);
+    }
+
+    private AmountAggregate aggregate(int code, boolean parallel) {
+        if (!parallel || size <= CHUNK_SIZE) {
+            return scan(code, 0, size);
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> scan(code, c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE)))
+                .reduce(new AmountAggregate(), AmountAggregate::combine);
+    }
+
+    /**
+     * One tight loop over [from, to): byte compare + double math, no objects
+     */
+    private AmountAggregate scan(int code, int from, int to) {
+        double[] amounts = this.amounts;
+        byte[] currencyCodes = this.currencyCodes;
+        byte wanted = (byte) code;
+
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            if (code == ALL || currencyCodes[i] == wanted) {
+                double amount = amounts[i];
+                count++;
+                sum += amount;
+                min = Math.min(min, amount);
+                max = Math.max(max, amount);
+            }
+        }
+        return new AmountAggregate(count, sum, min, max);
+    }
+}
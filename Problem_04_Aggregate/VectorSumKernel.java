@@ -0,0 +1,71 @@
+package streams.mastery.problem04;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD version of sumWithMapToDouble() (jdk.incubator.vector)
+ *
+ * Needs --add-modules jdk.incubator.vector to compile AND run.
+ * Never call this class directly - go through SumKernels, which falls
+ * back to the scalar loop when the module is missing.
+ *
+ * Idea (lane-wise reduction):
+ * 1. Keep LANES partial sums in one vector register
+ * 2. Add LANES amounts per step (masked add for the INR filter)
+ * 3. Fold the lanes into one double at the very end
+ *
+ * NOTE: additions happen in a different order than a sequential loop,
+ * so the last digits of a double sum may differ slightly.
+ */
+final class VectorSumKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorSumKernel() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    static double sum(double[] values, int from, int to) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = from;
+        int upperBound = from + SPECIES.loopBound(to - from);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, values, i));
+        }
+
+        double total = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    /**
+     * Sum of values[i] where include[i] is true
+     */
+    static double sumWhere(double[] values, boolean[] include, int from, int to) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = from;
+        int upperBound = from + SPECIES.loopBound(to - from);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            VectorMask<Double> mask = VectorMask.fromArray(SPECIES, include, i);
+            acc = acc.add(DoubleVector.fromArray(SPECIES, values, i), mask);
+        }
+
+        double total = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            if (include[i]) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,241 @@
+package streams.mastery.problem04;
+
+import java.time.Duration;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Live per-currency statistics over a continuous transaction feed
+ *
+ * See: concept.md → "Performance: Live Windowed Aggregates"
+ *
+ * moreExamples() re-streams the whole list for every aggregate. A
+ * dashboard refreshing every second cannot afford that, so this class
+ * updates its state once per transaction instead:
+ *
+ * - totals():        all-time DoubleSummaryStatistics per currency
+ * - currentWindow(): the same, but only for the latest window
+ *
+ * Windows are measured by COUNT (transaction sequence number) or by
+ * event TIME (milliseconds), and are either:
+ * - tumbling: [0, 10), [10, 20), ...          (slide == size)
+ * - sliding:  [0, 10), [5, 15), [10, 20), ... (slide < size)
+ *
+ * How? (panes)
+ * The window is cut into size / slide "panes". Each pane keeps its own
+ * per-currency stats in a ring buffer. accept() touches ONE pane → O(1).
+ * A window result merges its panes → O(panes × currencies).
+ * Memory is fixed by the number of panes, not by the event rate.
+ *
+ * Time windows drop events older than the current window (counted in
+ * droppedLateEvents(); they still count towards totals()).
+ *
+ * NOT thread-safe: feed it from one thread.
+ */
+public final class WindowedAggregator {
+
+    private enum Measure {
+        COUNT, TIME
+    }
+
+    private final Measure measure;
+    private final long size;
+    private final long slide;
+    private final int panes;
+
+    private final long[] paneIds;
+    private final Map<String, DoubleSummaryStatistics>[] paneStats;
+    private final Map<String, DoubleSummaryStatistics> totals = new HashMap<>();
+
+    private long latestPane = Long.MIN_VALUE;
+    private long sequence;
+    private long droppedLateEvents;
+    private Consumer<Window> listener = window -> {
+    };
+
+    private WindowedAggregator(Measure measure, long size, long slide) {
+        if (size <= 0 || slide <= 0 || slide > size || size % slide != 0) {
+            throw new IllegalArgumentException("Need 0 < slide <= size and size % slide == 0 (size=" + size
+                    + ", slide=" + slide + ")");
+        }
+        this.measure = measure;
+        this.size = size;
+        this.slide = slide;
+        this.panes = Math.toIntExact(size / slide);
+        this.paneIds = new long[panes];
+        @SuppressWarnings("unchecked") // generic array: the cast only restores the element type
+        Map<String, DoubleSummaryStatistics>[] stats = (Map<String, DoubleSummaryStatistics>[]) new Map<?, ?>[panes];
+        this.paneStats = stats;
+        for (int i = 0; i < panes; i++) {
+            paneIds[i] = Long.MIN_VALUE;
+            paneStats[i] = new HashMap<>();
+        }
+    }
+
+    public static WindowedAggregator tumblingByCount(long size) {
+        return new WindowedAggregator(Measure.COUNT, size, size);
+    }
+
+    public static WindowedAggregator slidingByCount(long size, long slide) {
+        return new WindowedAggregator(Measure.COUNT, size, slide);
+    }
+
+    public static WindowedAggregator tumblingByTime(Duration size) {
+        return new WindowedAggregator(Measure.TIME, size.toMillis(), size.toMillis());
+    }
+
+    public static WindowedAggregator slidingByTime(Duration size, Duration slide) {
+        return new WindowedAggregator(Measure.TIME, size.toMillis(), slide.toMillis());
+    }
+
+    /**
+     * Called with the finished window every time the window moves forward
+     * (once per advance, even if several panes are skipped at once)
+     */
+    public WindowedAggregator onWindowClosed(Consumer<Window> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Count windows: the position is the transaction's sequence number
+     */
+    public void accept(Transaction transaction) {
+        if (measure != Measure.COUNT) {
+            throw new IllegalStateException("Time windows need an event time: use accept(transaction, time)");
+        }
+        add(sequence++, transaction);
+    }
+
+    /**
+     * Time windows: the position is the event time in milliseconds
+     */
+    public void accept(Transaction transaction, long eventTimeMillis) {
+        if (measure != Measure.TIME) {
+            throw new IllegalStateException("Count windows have no event time: use accept(transaction)");
+        }
+        add(eventTimeMillis, transaction);
+    }
+
+    private void add(long position, Transaction transaction) {
+        String currency = transaction.getCurrency();
+        double amount = transaction.getAmount();
+        totals.computeIfAbsent(currency, c -> new DoubleSummaryStatistics()).accept(amount);
+
+        long pane = Math.floorDiv(position, slide);
+        if (latestPane != Long.MIN_VALUE && pane <= latestPane - panes) {
+            droppedLateEvents++; // older than the whole current window
+            return;
+        }
+        if (pane > latestPane) {
+            if (latestPane != Long.MIN_VALUE) {
+                listener.accept(windowEndingAt(latestPane));
+            }
+            latestPane = pane;
+        }
+
+        int slot = (int) Math.floorMod(pane, (long) panes);
+        if (paneIds[slot] != pane) {
+            paneIds[slot] = pane; // reuse the ring slot for the new pane
+            paneStats[slot].clear();
+        }
+        paneStats[slot].computeIfAbsent(currency, c -> new DoubleSummaryStatistics()).accept(amount);
+    }
+
+    /**
+     * All-time stats per currency (copies, sorted by currency)
+     */
+    public Map<String, DoubleSummaryStatistics> totals() {
+        Map<String, DoubleSummaryStatistics> copy = new TreeMap<>();
+        totals.forEach((currency, stats) -> copy.put(currency, copyOf(stats)));
+        return copy;
+    }
+
+    /**
+     * The window ending with the latest pane seen so far
+     */
+    public Window currentWindow() {
+        return latestPane == Long.MIN_VALUE ? new Window(0, size, new TreeMap<>()) : windowEndingAt(latestPane);
+    }
+
+    /**
+     * The window containing position as its newest pane - e.g. "now" for a
+     * time window, so an idle feed shows empty windows instead of stale ones
+     */
+    public Window windowAt(long position) {
+        return windowEndingAt(Math.floorDiv(position, slide));
+    }
+
+    public long droppedLateEvents() {
+        return droppedLateEvents;
+    }
+
+    private Window windowEndingAt(long lastPane) {
+        Map<String, DoubleSummaryStatistics> merged = new TreeMap<>();
+        for (int i = 0; i < panes; i++) {
+            long pane = paneIds[i];
+            if (pane > lastPane - panes && pane <= lastPane) {
+                paneStats[i].forEach((currency, stats) -> merged
+                        .computeIfAbsent(currency, c -> new DoubleSummaryStatistics())
+                        .combine(stats));
+            }
+        }
+        long end = (lastPane + 1) * slide;
+        return new Window(end - size, end, merged);
+    }
+
+    private static DoubleSummaryStatistics copyOf(DoubleSummaryStatistics stats) {
+        DoubleSummaryStatistics copy = new DoubleSummaryStatistics();
+        copy.combine(stats);
+        return copy;
+    }
+
+    /**
+     * Stats for one window [start, end) - positions or epoch millis
+     *
+     * The first windows of a sliding aggregator start before position 0
+     * (they are only partly filled).
+     */
+    public static final class Window {
+        private final long start;
+        private final long end;
+        private final Map<String, DoubleSummaryStatistics> stats;
+
+        Window(long start, long end, Map<String, DoubleSummaryStatistics> stats) {
+            this.start = start;
+            this.end = end;
+            this.stats = stats;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        /**
+         * Per-currency stats, sorted by currency
+         */
+        public Map<String, DoubleSummaryStatistics> getStats() {
+            return stats;
+        }
+
+        public double getSum(String currency) {
+            DoubleSummaryStatistics s = stats.get(currency);
+            return s == null ? 0.0 : s.getSum();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[" + start + ", " + end + ")");
+            stats.forEach((currency, s) -> sb.append(String.format(" %s: count=%d sum=%.1f",
+                    currency, s.getCount(), s.getSum())));
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package streams.mastery.problem05;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable, compact lookup map built by a collector
+ *
+ * See: concept.md → "Performance: Frozen Lookup Maps"
+ *
+ * collectToMap() builds a HashMap and then only calls get() on it.
+ * HashMap pays one Node object (~32 bytes) per entry and a pointer chase
+ * per lookup. FrozenMap is built once and never changes, so it can use
+ * flat arrays instead:
+ *
+ *   entries: [ORD-001, o1, ORD-002, o2, ORD-003, o3]   ← encounter order
+ *   table:   [0, (hash|2), 0, (hash|1), (hash|3), 0, ...]   ← long[] probe table
+ *
+ * Each table slot packs the cached hash (high 32 bits) and index + 1
+ * (low 32 bits): a probe compares hashes inside ONE long[] and calls
+ * equals() only on a real hash match (open addressing, linear probing).
+ * Key and value sit side by side, so a hit reads one more cache line -
+ * the same as HashMap's Node, without the object header.
+ *
+ * - Accumulation only appends to arrays; parallel combine = array append
+ * - The table is sized once, in the finisher, from the exact entry count
+ * - collect(stream, ...) also presizes the arrays from a SIZED spliterator
+ *
+ * Like Collectors.toMap: duplicate keys throw IllegalStateException unless
+ * a merge function is given; null keys/values throw NullPointerException.
+ */
+public final class FrozenMap<K, V> extends AbstractMap<K, V> {
+
+    // Largest table is 2^30 slots; keep the load factor at or below 2/3
+    private static final int MAX_ENTRIES = (1 << 30) / 3 * 2;
+
+    // key i at [2i], value i at [2i + 1]
+    private final Object[] entries;
+    private final long[] table;
+    private final int mask;
+    private final int shift;
+    private final int size;
+
+    private FrozenMap(Object[] entries, long[] table, int size) {
+        this.entries = entries;
+        this.table = table;
+        this.mask = table.length - 1;
+        this.shift = Integer.numberOfLeadingZeros(table.length) + 1;
+        this.size = size;
+    }
+
+    /**
+     * Same as Collectors.toMap(keyMapper, valueMapper), but frozen
+     */
+    public static <T, K, V> Collector<T, ?, FrozenMap<K, V>> toFrozenMap(
+            Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        return toFrozenMap(keyMapper, valueMapper, null);
+    }
+
+    /**
+     * Same as Collectors.toMap(keyMapper, valueMapper, mergeFunction), but frozen
+     */
+    public static <T, K, V> Collector<T, ?, FrozenMap<K, V>> toFrozenMap(
+            Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper,
+            BinaryOperator<V> mergeFunction) {
+        BiConsumer<Builder<K, V>, T> accumulator = (builder, element) -> builder.add(
+                keyMapper.apply(element), valueMapper.apply(element));
+        return Collector.of(Builder::new, accumulator, Builder::append,
+                builder -> builder.freeze(mergeFunction));
+    }
+
+    /**
+     * stream.collect(toFrozenMap(...)), but a sequential SIZED stream (e.g.
+     * list.stream()) fills arrays of exactly the right length - no regrowth
+     */
+    public static <T, K, V> FrozenMap<K, V> collect(Stream<T> stream,
+            Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        boolean parallel = stream.isParallel();
+        Spliterator<T> spliterator = stream.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        if (parallel || exactSize < 0 || exactSize > MAX_ENTRIES) {
+            return StreamSupport.stream(spliterator, parallel).collect(toFrozenMap(keyMapper, valueMapper));
+        }
+        Builder<K, V> builder = new Builder<>((int) exactSize);
+        spliterator.forEachRemaining(element -> builder.add(keyMapper.apply(element), valueMapper.apply(element)));
+        return builder.freeze(null);
+    }
+
+    /**
+     * Fibonacci hashing: sequential hashCodes (ORD-001, ORD-002, ...) would
+     * fill neighbouring slots and build long probe runs, so multiply by the
+     * golden ratio and take the HIGH bits as the slot
+     */
+    private static int hash(Object key) {
+        return key.hashCode() * 0x9E3779B9;
+    }
+
+    private static int slot(int hash, int shift) {
+        return hash >>> shift;
+    }
+
+    /**
+     * Slot of key, or -1 if absent
+     */
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = hash(key);
+        int slot = slot(hash, shift);
+        long entry;
+        while ((entry = table[slot]) != 0) {
+            if ((int) (entry >>> 32) == hash) {
+                Object candidate = entries[2 * ((int) entry - 1)];
+                if (candidate == key || key.equals(candidate)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) entries[2 * ((int) table[slot] - 1) + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : (V) entries[2 * ((int) table[slot] - 1) + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Slots in the probe table (footprint: 8 bytes each + 8 bytes per entry)
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((K) entries[2 * i], (V) entries[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Read-only view in encounter order
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<K, V> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>((K) entries[2 * i], (V) entries[2 * i + 1]);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Mutable accumulation container: plain appends, no hashing yet
+     */
+    private static final class Builder<K, V> {
+        // Same interleaved layout as the frozen map
+        private Object[] entries;
+        private int size;
+
+        Builder() {
+            this(16);
+        }
+
+        Builder(int initialCapacity) {
+            entries = new Object[2 * Math.max(1, initialCapacity)];
+        }
+
+        void add(K key, V value) {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(value, "value");
+            ensureCapacity(size + 1);
+            entries[2 * size] = key;
+            entries[2 * size + 1] = value;
+            size++;
+        }
+
+        Builder<K, V> append(Builder<K, V> other) {
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.entries, 0, entries, 2 * size, 2 * other.size);
+            size += other.size;
+            return this;
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed > MAX_ENTRIES) {
+                throw new IllegalStateException("More than " + MAX_ENTRIES + " entries");
+            }
+            int capacity = entries.length / 2;
+            if (needed > capacity) {
+                int grown = Math.min(MAX_ENTRIES, Math.max(needed, capacity + (capacity >> 1)));
+                entries = Arrays.copyOf(entries, 2 * grown);
+            }
+        }
+
+        /**
+         * Build the probe table once; duplicates are merged (or rejected)
+         * and the entries compacted in place, keeping first-seen order
+         */
+        @SuppressWarnings("unchecked")
+        FrozenMap<K, V> freeze(BinaryOperator<V> mergeFunction) {
+            // Power of two with load factor between 1/3 and 2/3
+            int needed = Math.max(2, size + (size + 1) / 2);
+            int capacity = Integer.highestOneBit(needed - 1) << 1;
+            long[] table = new long[capacity];
+            int mask = capacity - 1;
+            int shift = Integer.numberOfLeadingZeros(capacity) + 1;
+
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                Object key = entries[2 * i];
+                Object value = entries[2 * i + 1];
+                int hash = hash(key);
+                int slot = slot(hash, shift);
+                long entry;
+                while ((entry = table[slot]) != 0
+                        && ((int) (entry >>> 32) != hash || !key.equals(entries[2 * ((int) entry - 1)]))) {
+                    slot = (slot + 1) & mask;
+                }
+                if (entry != 0) {
+                    int existing = 2 * ((int) entry - 1) + 1;
+                    if (mergeFunction == null) {
+                        throw new IllegalStateException(String.format(
+                                "Duplicate key %s (attempted merging values %s and %s)",
+                                key, entries[existing], value));
+                    }
+                    entries[existing] = mergeFunction.apply((V) entries[existing], (V) value);
+                    continue;
+                }
+                entries[2 * distinct] = key;
+                entries[2 * distinct + 1] = value;
+                table[slot] = ((long) hash << 32) | (distinct + 1);
+                distinct++;
+            }
+
+            // Trim growth slack: the frozen map keeps exactly what it needs
+            Object[] frozen = 2 * distinct == entries.length ? entries : Arrays.copyOf(entries, 2 * distinct);
+            return new FrozenMap<>(frozen, table, distinct);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package streams.mastery.problem05;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Collector;
+
+/**
+ * joining() that copies characters exactly once
+ *
+ * See: concept.md → "Performance: Joining Without Re-Copying"
+ *
+ * Collectors.joining() appends every element to a StringBuilder (which
+ * re-copies as it grows), and in a parallel stream every combine copies
+ * the partial Strings again. JoiningCollector instead:
+ *
+ * 1. Accumulate: keep a REFERENCE to each element in a rope of pieces
+ *      [ "Laptop", "Mouse" ] → [ "Laptop", "Keyboard", ... ] → ...
+ *    Pieces never grow, so nothing is re-copied.
+ * 2. Combine: link the two ropes (tail.next = other.head) → O(1)
+ * 3. Finish: StringJoiner.toString() sums the lengths, picks Latin-1 or
+ *    UTF-16 once and fills one exactly-sized buffer → one copy per char
+ *
+ * Same results as Collectors.joining(...): elements are snapshotted with
+ * toString() as they arrive, and prefix + suffix are returned for an
+ * empty stream.
+ */
+public final class JoiningCollector {
+
+    // Piece sizes double from 16 up to this many references
+    private static final int MAX_PIECE = 8192;
+
+    private JoiningCollector() {
+    }
+
+    /**
+     * Same as Collectors.joining()
+     */
+    public static Collector<CharSequence, ?, String> joining() {
+        return joining("", "", "");
+    }
+
+    /**
+     * Same as Collectors.joining(delimiter)
+     */
+    public static Collector<CharSequence, ?, String> joining(CharSequence delimiter) {
+        return joining(delimiter, "", "");
+    }
+
+    /**
+     * Same as Collectors.joining(delimiter, prefix, suffix)
+     */
+    public static Collector<CharSequence, ?, String> joining(CharSequence delimiter,
+            CharSequence prefix, CharSequence suffix) {
+        Objects.requireNonNull(delimiter, "delimiter");
+        Objects.requireNonNull(prefix, "prefix");
+        Objects.requireNonNull(suffix, "suffix");
+        return Collector.of(Rope::new, Rope::add, Rope::concat,
+                rope -> rope.join(delimiter, prefix, suffix));
+    }
+
+    /**
+     * Linked list of fixed-size pieces holding element references
+     */
+    private static final class Rope {
+        private Piece head;
+        private Piece tail;
+
+        void add(CharSequence element) {
+            if (tail == null || tail.size == tail.items.length) {
+                Piece piece = new Piece(tail == null ? 16 : Math.min(MAX_PIECE, tail.items.length * 2));
+                if (tail == null) {
+                    head = piece;
+                } else {
+                    tail.next = piece;
+                }
+                tail = piece;
+            }
+            tail.items[tail.size++] = String.valueOf(element);
+        }
+
+        /**
+         * O(1): the other rope's pieces are linked, not copied
+         */
+        Rope concat(Rope other) {
+            if (other.head == null) {
+                return this;
+            }
+            if (head == null) {
+                return other;
+            }
+            tail.next = other.head;
+            tail = other.tail;
+            return this;
+        }
+
+        String join(CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+            // StringJoiner only stores the references; toString() allocates once
+            StringJoiner joiner = new StringJoiner(delimiter, prefix, suffix);
+            for (Piece piece = head; piece != null; piece = piece.next) {
+                for (int i = 0; i < piece.size; i++) {
+                    joiner.add(piece.items[i]);
+                }
+            }
+            return joiner.toString();
+        }
+    }
+
+    private static final class Piece {
+        final String[] items;
+        int size;
+        Piece next;
+
+        Piece(int capacity) {
+            items = new String[capacity];
+        }
+    }
+}
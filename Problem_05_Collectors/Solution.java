@@ -76,6 +76,14 @@ public class Solution {
                 .map(Order::getProduct)
                 .collect(Collectors.toCollection(TreeSet::new));
         System.out.println("Sorted unique products: " + sortedProducts);
+
+        // Same set without red-black nodes: append, sort once, dedupe once
+        // See concept.md: "Performance: Sort Once Instead of TreeSet"
+        NavigableSet<String> sortedDistinct = orders.stream()
+                .map(Order::getProduct)
+                .collect(SortedArraySet.toSortedDistinct());
+        System.out.println("Sorted distinct products: " + sortedDistinct);
+        System.out.println("First product after 'L': " + sortedDistinct.ceiling("L"));
     }
 
     /**
@@ -92,6 +100,14 @@ public class Solution {
         System.out.println("Order map: " + orderMap);
         System.out.println("Lookup ORD-002: " + orderMap.get("ORD-002"));
 
+        // Read-only lookups: frozen open-addressing map, no Node per entry
+        // See concept.md: "Performance: Frozen Lookup Maps"
+        FrozenMap<String, Order> frozenMap = orders.stream()
+                .collect(FrozenMap.toFrozenMap(
+                        Order::getId,
+                        Function.identity()));
+        System.out.println("Frozen lookup ORD-002: " + frozenMap.get("ORD-002"));
+
         // Map: orderId → price
         Map<String, Double> priceMap = orders.stream()
                 .collect(Collectors.toMap(
@@ -150,6 +166,13 @@ public class Solution {
                 .map(o -> String.valueOf(o.getPrice()))
                 .collect(Collectors.joining(" | "));
         System.out.println("Prices joined: " + prices);
+
+        // Same output, but each character is copied once (rope of references)
+        // See concept.md: "Performance: Joining Without Re-Copying"
+        String exported = orders.parallelStream()
+                .map(Order::getProduct)
+                .collect(JoiningCollector.joining(", ", "[", "]"));
+        System.out.println("Exact-length join: " + exported);
     }
 
     public static void moreExamples(List<Order> orders) {
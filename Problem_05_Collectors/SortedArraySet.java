@@ -0,0 +1,340 @@
+package streams.mastery.problem05;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collector;
+
+/**
+ * Immutable sorted set backed by one sorted, duplicate-free array
+ *
+ * See: concept.md → "Performance: Sort Once Instead of TreeSet"
+ *
+ * collectToSet() uses toCollection(TreeSet::new): one red-black node per
+ * element and an O(log n) pointer chase for EVERY insert. When the set is
+ * only read afterwards, it is cheaper to:
+ *
+ * 1. Accumulate: append to a growable array (parallel combine = append)
+ * 2. Finish:     sort once (Arrays.parallelSort for large inputs)
+ * 3. Dedupe:     one linear pass - equal elements are now neighbours
+ *
+ *   [Laptop, Mouse, Laptop, Keyboard] → sort → [Keyboard, Laptop, Laptop, Mouse]
+ *                                     → dedupe → [Keyboard, Laptop, Mouse]
+ *
+ * Lookups (contains, floor, ceiling, subSet, ...) are binary searches on
+ * the array; views (subSet, headSet, tailSet, descendingSet) share it.
+ *
+ * Same rules as TreeSet: "equal" means compare() == 0, the FIRST of equal
+ * elements (encounter order) is kept - both sorts are stable - and null
+ * is rejected with natural ordering. Mutators throw
+ * UnsupportedOperationException. One difference: a view of a view is
+ * clamped to its parent's range instead of throwing for out-of-range bounds.
+ */
+public final class SortedArraySet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+    // Below this, parallelSort's fork/join overhead is not worth it
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final Comparator<? super E> comparator;
+    private final boolean descending;
+
+    private SortedArraySet(Object[] elements, int from, int to, Comparator<? super E> comparator,
+            boolean descending) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.comparator = comparator;
+        this.descending = descending;
+    }
+
+    /**
+     * Same contents as toCollection(TreeSet::new)
+     */
+    public static <T extends Comparable<? super T>> Collector<T, ?, SortedArraySet<T>> toSortedDistinct() {
+        return toSortedDistinct(null);
+    }
+
+    /**
+     * Same contents as toCollection(() -> new TreeSet<>(comparator))
+     */
+    public static <T> Collector<T, ?, SortedArraySet<T>> toSortedDistinct(Comparator<? super T> comparator) {
+        return Collector.of(Buffer<T>::new, Buffer::add, Buffer::append,
+                buffer -> buffer.sortAndDedupe(comparator));
+    }
+
+    /**
+     * Growable array: plain appends while the stream runs
+     */
+    private static final class Buffer<T> {
+        private Object[] items = new Object[16];
+        private int size;
+
+        void add(T item) {
+            ensureCapacity(size + 1);
+            items[size++] = item;
+        }
+
+        Buffer<T> append(Buffer<T> other) {
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.items, 0, items, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed < 0) {
+                throw new IllegalStateException("Too many elements for one array");
+            }
+            if (needed > items.length) {
+                items = Arrays.copyOf(items, Math.max(needed, items.length + (items.length >> 1)));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        SortedArraySet<T> sortAndDedupe(Comparator<? super T> comparator) {
+            Comparator<Object> order = (Comparator<Object>) comparatorOrNatural(comparator);
+            if (size >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(items, 0, size, order);
+            } else {
+                Arrays.sort(items, 0, size, order);
+            }
+
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                Object item = items[i];
+                if (comparator == null) {
+                    Objects.requireNonNull(item); // TreeSet rejects null too
+                }
+                if (distinct == 0 || order.compare(items[distinct - 1], item) != 0) {
+                    items[distinct++] = item;
+                }
+            }
+
+            // Trim growth slack and duplicates: the set keeps exactly what it needs
+            Object[] sorted = distinct == items.length ? items : Arrays.copyOf(items, distinct);
+            return new SortedArraySet<>(sorted, 0, distinct, comparator, false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> comparatorOrNatural(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null
+                ? comparator.compare((E) a, (E) b)
+                : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * First array index in [from, to) whose element is >= e (inclusive) or > e
+     */
+    private int search(Object e, boolean inclusive) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int c = compare(elements[mid], e);
+            if (c < 0 || (c == 0 && !inclusive)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E at(int index) {
+        return index >= from && index < to ? (E) elements[index] : null;
+    }
+
+    // Array-order (ascending) answers; descending views swap them
+
+    private E ascendingLower(E e) {
+        return at(search(e, true) - 1);
+    }
+
+    private E ascendingFloor(E e) {
+        return at(search(e, false) - 1);
+    }
+
+    private E ascendingCeiling(E e) {
+        return at(search(e, true));
+    }
+
+    private E ascendingHigher(E e) {
+        return at(search(e, false));
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        Objects.requireNonNull(o);
+        int index = search(o, true);
+        return index < to && compare(elements[index], o) == 0;
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        if (!descending) {
+            return comparator;
+        }
+        return comparator == null ? Collections.reverseOrder() : Collections.reverseOrder(comparator);
+    }
+
+    @Override
+    public E first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return at(descending ? to - 1 : from);
+    }
+
+    @Override
+    public E last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return at(descending ? from : to - 1);
+    }
+
+    @Override
+    public E lower(E e) {
+        return descending ? ascendingHigher(e) : ascendingLower(e);
+    }
+
+    @Override
+    public E floor(E e) {
+        return descending ? ascendingCeiling(e) : ascendingFloor(e);
+    }
+
+    @Override
+    public E ceiling(E e) {
+        return descending ? ascendingFloor(e) : ascendingCeiling(e);
+    }
+
+    @Override
+    public E higher(E e) {
+        return descending ? ascendingLower(e) : ascendingHigher(e);
+    }
+
+    @Override
+    public E pollFirst() {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public E pollLast() {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = descending ? to - 1 : from;
+
+            @Override
+            public boolean hasNext() {
+                return descending ? next >= from : next < to;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = at(next);
+                next += descending ? -1 : 1;
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.IMMUTABLE
+                | Spliterator.NONNULL;
+        return descending
+                ? Spliterators.spliterator(iterator(), size(), characteristics)
+                : Spliterators.spliterator(elements, from, to, characteristics);
+    }
+
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return new SortedArraySet<>(elements, from, to, comparator, !descending);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return descendingSet().iterator();
+    }
+
+    @Override
+    public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        if (compare(fromElement, toElement) * (descending ? -1 : 1) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return descending
+                ? range(search(toElement, toInclusive), search(fromElement, !fromInclusive))
+                : range(search(fromElement, fromInclusive), search(toElement, !toInclusive));
+    }
+
+    @Override
+    public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+        return descending
+                ? range(search(toElement, inclusive), to)
+                : range(from, search(toElement, !inclusive));
+    }
+
+    @Override
+    public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+        return descending
+                ? range(from, search(fromElement, !inclusive))
+                : range(search(fromElement, inclusive), to);
+    }
+
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    /**
+     * View over array indexes [low, high) - same array, same direction
+     */
+    private NavigableSet<E> range(int low, int high) {
+        return new SortedArraySet<>(elements, low, Math.max(low, high), comparator, descending);
+    }
+}
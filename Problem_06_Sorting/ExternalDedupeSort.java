@@ -0,0 +1,549 @@
+package streams.mastery.problem06;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * withStreams() for product histories bigger than the heap
+ *
+ * See: 3_Solution.md → "Performance: Dedupe Bigger Than Memory"
+ *
+ * withStreams() needs every Product in memory twice (sorted() + toMap()).
+ * This version keeps at most memoryBytes of rows in memory, everything
+ * else lives in temporary "run" files:
+ *
+ * Phase 1 - group by name
+ *   Fill a buffer, keeping only the best row per name (hash lookup, so
+ *   older versions of a product never reach the sort) → sort by
+ *   (name, price desc, input order) → spill a binary run file. Repeat.
+ *
+ * Phase 2 - k-way merge, keep the max
+ *   Merge all runs with a PriorityQueue (one reader per run). Same names
+ *   now arrive together and the FIRST one is the highest price → keep it,
+ *   skip the rest. Too many runs? Merge them in several passes.
+ *
+ * Phase 3 - final order
+ *   The winners are sorted by (price desc, input order) the same way
+ *   (buffer → spill → merge) and handed to the sink one by one.
+ *
+ * The result equals withStreams(): same products, same order - including
+ * ties, which keep the earlier input row (sorted() is stable).
+ *
+ * Run file row: | name length (varint) | name UTF-8 | price (8) | input index (varint) |
+ *
+ * Memory: half of memoryBytes for the sort buffer, half for merge read
+ * buffers (64 KB per open run). Estimates, not a hard heap limit.
+ *
+ * CLI (synthetic products, generated on the fly):
+ *   java -Xmx1g streams.mastery.problem06.ExternalDedupeSort [products] [memoryMB] [names]
+ */
+public final class ExternalDedupeSort {
+
+    public static final long DEFAULT_MEMORY_BYTES = 64L << 20; // 64 MB
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    // Row object + name byte[] + buffer slot + 2 hash slots, before the name bytes
+    private static final int ROW_OVERHEAD_BYTES = 72;
+
+    // Phase 1/2: same names together, best (highest, earliest) first
+    private static final Comparator<Row> BY_NAME = (a, b) -> {
+        int c = Arrays.compareUnsigned(a.name, b.name);
+        return c != 0 ? c : compareByPrice(a, b);
+    };
+
+    // Phase 3: the order of withStreams()
+    private static final Comparator<Row> BY_PRICE = ExternalDedupeSort::compareByPrice;
+
+    private final long memoryBytes;
+    private final Path tempDir;
+
+    public ExternalDedupeSort() {
+        this(DEFAULT_MEMORY_BYTES);
+    }
+
+    public ExternalDedupeSort(long memoryBytes) {
+        this(memoryBytes, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalDedupeSort(long memoryBytes, Path tempDir) {
+        if (memoryBytes < 2 * IO_BUFFER_SIZE) {
+            throw new IllegalArgumentException("memoryBytes must be >= " + 2 * IO_BUFFER_SIZE + ": " + memoryBytes);
+        }
+        this.memoryBytes = memoryBytes;
+        this.tempDir = tempDir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        long count = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        long memoryMb = args.length > 1 ? Long.parseLong(args[1]) : 64;
+        int names = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+
+        Random random = new Random(42);
+        Stream<Product> products = Stream.generate(
+                () -> new Product("Product-" + random.nextInt(names), random.nextInt(100_000)))
+                .limit(count);
+
+        long[] checksum = new long[1];
+        Report report = new ExternalDedupeSort(memoryMb << 20)
+                .run(products, product -> checksum[0] += (long) product.getPrice());
+        System.out.println(report);
+        System.out.println("(checksum = " + checksum[0] + ")");
+    }
+
+    /**
+     * Same as Solution.withStreams(products) - for inputs that fit in a List
+     */
+    public List<Product> dedupe(List<Product> products) throws IOException {
+        List<Product> result = new ArrayList<>();
+        run(products.iterator(), result::add);
+        return result;
+    }
+
+    public Report run(Stream<Product> products, Consumer<Product> sink) throws IOException {
+        try (products) {
+            return run(products.iterator(), sink);
+        }
+    }
+
+    /**
+     * Streams the deduplicated products, highest price first, into sink
+     */
+    public Report run(Iterator<Product> products, Consumer<Product> sink) throws IOException {
+        long start = System.nanoTime();
+        Stats stats = new Stats();
+
+        try (RunSorter byName = new RunSorter(BY_NAME, true, stats);
+                RunSorter byPrice = new RunSorter(BY_PRICE, false, stats)) {
+            long index = 0;
+            while (products.hasNext()) {
+                Product product = products.next();
+                Row row = new Row(product.getName().getBytes(StandardCharsets.UTF_8), product.getPrice(), index++);
+                stats.inputBytes += row.encodedSize();
+                byName.add(row);
+            }
+            stats.inputRows = index;
+
+            byName.finish(byPrice::add);
+            byPrice.finish(row -> {
+                stats.outputRows++;
+                sink.accept(new Product(new String(row.name, StandardCharsets.UTF_8), row.price));
+            });
+        }
+        return new Report(stats, memoryBytes, System.nanoTime() - start);
+    }
+
+    private static int compareByPrice(Row a, Row b) {
+        int c = Double.compare(b.price, a.price); // descending
+        return c != 0 ? c : Long.compare(a.index, b.index);
+    }
+
+    /**
+     * One product in memory: UTF-8 name (compared byte-wise), price, input index
+     */
+    private static final class Row {
+        final byte[] name;
+        final double price;
+        final long index;
+
+        Row(byte[] name, double price, long index) {
+            this.name = name;
+            this.price = price;
+            this.index = index;
+        }
+
+        int encodedSize() {
+            return varIntSize(name.length) + name.length + Double.BYTES + varIntSize(index);
+        }
+    }
+
+    private interface RowSink {
+        void accept(Row row) throws IOException;
+    }
+
+    /**
+     * A spilled, sorted run file
+     */
+    private static final class Run {
+        final Path path;
+        final long rows;
+
+        Run(Path path, long rows) {
+            this.path = path;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * External sort: buffer → sort → spill, then (multi-pass) k-way merge.
+     * With dedupe, only the first row per name survives each step.
+     */
+    private final class RunSorter implements AutoCloseable {
+        private final Comparator<Row> order;
+        private final boolean dedupe;
+        private final Stats stats;
+        private final long bufferBytes = memoryBytes / 2;
+        private final int fanIn = (int) Math.max(2, Math.min(1024, memoryBytes / 2 / IO_BUFFER_SIZE));
+
+        private final List<Run> runs = new ArrayList<>();
+        private Row[] buffer = new Row[1024];
+        private int size;
+        private long bufferedBytes;
+
+        // dedupe only: open-addressing name → buffer index + 1
+        private int[] slots = new int[2048];
+
+        RunSorter(Comparator<Row> order, boolean dedupe, Stats stats) {
+            this.order = order;
+            this.dedupe = dedupe;
+            this.stats = stats;
+        }
+
+        void add(Row row) throws IOException {
+            int slot = -1;
+            if (dedupe) {
+                slot = findSlot(row.name);
+                int existing = slots[slot] - 1;
+                if (existing >= 0) {
+                    if (order.compare(row, buffer[existing]) < 0) {
+                        buffer[existing] = row; // same name, better price
+                    }
+                    return;
+                }
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+                if (dedupe) {
+                    rehash();
+                    slot = findSlot(row.name);
+                }
+            }
+            if (dedupe) {
+                slots[slot] = size + 1;
+            }
+            buffer[size++] = row;
+            bufferedBytes += ROW_OVERHEAD_BYTES + row.name.length;
+            if (bufferedBytes >= bufferBytes) {
+                spill();
+            }
+        }
+
+        /**
+         * Emit everything in order; fits in memory → no file is written at all
+         */
+        void finish(RowSink out) throws IOException {
+            if (runs.isEmpty()) {
+                sortBuffer(out);
+                buffer = null;
+                slots = null;
+                return;
+            }
+            if (size > 0) {
+                spill();
+            }
+            buffer = null;
+            slots = null;
+            while (runs.size() > fanIn) {
+                stats.mergePasses++;
+                List<Run> next = new ArrayList<>();
+                try {
+                    for (int from = 0; from < runs.size(); from += fanIn) {
+                        List<Run> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                        next.add(group.size() == 1 ? group.get(0) : writeRun(sink -> merge(group, sink)));
+                    }
+                } catch (IOException | RuntimeException e) {
+                    deleteAll(next, runs); // close() still deletes the old runs
+                    throw e;
+                }
+                deleteAll(runs, next);
+                runs.clear();
+                runs.addAll(next);
+            }
+            stats.mergePasses++;
+            merge(runs, out);
+        }
+
+        private void spill() throws IOException {
+            runs.add(writeRun(this::sortBuffer));
+            Arrays.fill(buffer, 0, size, null);
+            if (dedupe) {
+                Arrays.fill(slots, 0);
+            }
+            size = 0;
+            bufferedBytes = 0;
+        }
+
+        /**
+         * Slot holding name, or the empty slot where it belongs (linear probing)
+         */
+        private int findSlot(byte[] name) {
+            int mask = slots.length - 1;
+            int slot = (Arrays.hashCode(name) * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mask);
+            int entry;
+            while ((entry = slots[slot]) != 0 && !Arrays.equals(buffer[entry - 1].name, name)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Keep slots at least twice the buffer length (load factor <= 1/2)
+         */
+        private void rehash() {
+            slots = new int[buffer.length * 2];
+            for (int i = 0; i < size; i++) {
+                slots[findSlot(buffer[i].name)] = i + 1;
+            }
+        }
+
+        private void sortBuffer(RowSink out) throws IOException {
+            Arrays.sort(buffer, 0, size, order);
+            byte[] lastName = null;
+            for (int i = 0; i < size; i++) {
+                Row row = buffer[i];
+                if (dedupe && lastName != null && Arrays.equals(lastName, row.name)) {
+                    continue; // same name, lower (or later) price
+                }
+                lastName = row.name;
+                out.accept(row);
+            }
+        }
+
+        /**
+         * k-way merge: always emit the smallest head among the open runs
+         */
+        private void merge(List<Run> group, RowSink out) throws IOException {
+            List<RunReader> readers = new ArrayList<>(group.size());
+            PriorityQueue<RunReader> heads = new PriorityQueue<>(group.size(),
+                    (a, b) -> order.compare(a.head, b.head));
+            try {
+                for (Run run : group) {
+                    RunReader reader = new RunReader(run);
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        heads.add(reader);
+                    }
+                }
+                byte[] lastName = null;
+                while (!heads.isEmpty()) {
+                    RunReader reader = heads.poll();
+                    Row row = reader.head;
+                    if (!dedupe || lastName == null || !Arrays.equals(lastName, row.name)) {
+                        lastName = row.name;
+                        out.accept(row);
+                    }
+                    if (reader.advance()) {
+                        heads.add(reader);
+                    }
+                }
+            } finally {
+                for (RunReader reader : readers) {
+                    reader.close();
+                }
+            }
+        }
+
+        private Run writeRun(RunWriter body) throws IOException {
+            Path path = Files.createTempFile(tempDir, "dedupe-run", ".bin");
+            long[] rows = new long[1];
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE))) {
+                body.write(row -> {
+                    writeVarInt(out, row.name.length);
+                    out.write(row.name);
+                    out.writeLong(Double.doubleToRawLongBits(row.price));
+                    writeVarInt(out, row.index);
+                    stats.spilledBytes += row.encodedSize();
+                    rows[0]++;
+                });
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+            stats.runs++;
+            return new Run(path, rows[0]);
+        }
+
+        /**
+         * Delete the files of runs that are not in keep
+         */
+        private void deleteAll(List<Run> old, List<Run> keep) throws IOException {
+            for (Run run : old) {
+                if (!keep.contains(run)) {
+                    Files.deleteIfExists(run.path);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (Run run : runs) {
+                Files.deleteIfExists(run.path);
+            }
+            runs.clear();
+        }
+    }
+
+    private interface RunWriter {
+        void write(RowSink sink) throws IOException;
+    }
+
+    private static final class RunReader implements AutoCloseable {
+        private final DataInputStream in;
+        private long remaining;
+        Row head;
+
+        RunReader(Run run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), IO_BUFFER_SIZE));
+            this.remaining = run.rows;
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            remaining--;
+            byte[] name = new byte[(int) readVarInt(in)];
+            in.readFully(name);
+            double price = Double.longBitsToDouble(in.readLong());
+            head = new Row(name, price, readVarInt(in));
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // LEB128: 7 bits per byte, high bit = "more bytes follow"
+
+    private static void writeVarInt(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarInt(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in run file");
+    }
+
+    private static int varIntSize(long value) {
+        int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+        return (bits + 6) / 7;
+    }
+
+    private static final class Stats {
+        long inputRows;
+        long outputRows;
+        long inputBytes;
+        long spilledBytes;
+        int runs;
+        int mergePasses;
+    }
+
+    public static final class Report {
+        private final long inputRows;
+        private final long outputRows;
+        private final long inputBytes;
+        private final long spilledBytes;
+        private final int runs;
+        private final int mergePasses;
+        private final long memoryBytes;
+        private final long nanos;
+
+        Report(Stats stats, long memoryBytes, long nanos) {
+            this.inputRows = stats.inputRows;
+            this.outputRows = stats.outputRows;
+            this.inputBytes = stats.inputBytes;
+            this.spilledBytes = stats.spilledBytes;
+            this.runs = stats.runs;
+            this.mergePasses = stats.mergePasses;
+            this.memoryBytes = memoryBytes;
+            this.nanos = nanos;
+        }
+
+        public long getInputRows() {
+            return inputRows;
+        }
+
+        public long getOutputRows() {
+            return outputRows;
+        }
+
+        /**
+         * Input size in the compact run encoding
+         */
+        public long getInputBytes() {
+            return inputBytes;
+        }
+
+        /**
+         * Bytes written to run files, all phases and passes
+         */
+        public long getSpilledBytes() {
+            return spilledBytes;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getMergePasses() {
+            return mergePasses;
+        }
+
+        public long getMemoryBytes() {
+            return memoryBytes;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Seconds to process one GB (2^30 bytes) of encoded input
+         */
+        public double getSecondsPerGigabyte() {
+            return inputBytes == 0 ? 0 : nanos / 1e9 / (inputBytes / (1024.0 * 1024.0 * 1024.0));
+        }
+
+        public double getMegabytesPerSecond() {
+            return nanos == 0 ? 0 : inputBytes / (1024.0 * 1024.0) / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d rows in, %,d out, %,d bytes in, %,d bytes spilled, %d run(s), "
+                    + "%d merge pass(es), %d MB memory, %.1f ms, %.1f MB/s, %.1f s/GB",
+                    inputRows, outputRows, inputBytes, spilledBytes, runs, mergePasses,
+                    memoryBytes >> 20, nanos / 1e6, getMegabytesPerSecond(), getSecondsPerGigabyte());
+        }
+    }
+}
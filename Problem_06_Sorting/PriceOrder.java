@@ -0,0 +1,132 @@
+package streams.mastery.problem06;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Sort products by price descending without a Comparator
+ *
+ * See: 3_Solution.md → "Performance: Sorting Prices as Bits"
+ *
+ * Comparator.comparing(Product::getPrice).reversed() boxes a Double and
+ * runs two lambda calls for EVERY comparison (~n log n of them). Here:
+ *
+ * 1. Extract:  prices → double[]                         (one pass)
+ * 2. Encode:   double → long whose signed order equals Double.compare()
+ * 3. Sort:     LSD radix sort of (key, index) pairs, 8 bits per pass
+ *              - no comparisons at all, O(8 n)
+ *              - stable, so equal prices keep their input order
+ * 4. Permute:  build the sorted List from the index array (one pass)
+ *
+ * The IEEE-754 trick:
+ *   bits = doubleToLongBits(price)
+ *   positive: bits already sort correctly as signed longs
+ *   negative: larger magnitude = smaller number → flip the 63 low bits
+ *   → -Inf < -1.0 < -0.0 < 0.0 < 1.0 < +Inf < NaN   (same as Double.compare)
+ *
+ * Passes where every key has the same byte (e.g. the sign and exponent of
+ * similar prices) are skipped.
+ *
+ * Why not parallelSort a packed long[] of key + index? The key already
+ * needs all 64 bits, so there is no room left for the index; the stable
+ * radix sort moves the index along with the key instead.
+ *
+ * Memory: 32 bytes per product while sorting - the extracted double[]
+ * prices (8) plus argsortDescending's two long[] + two int[] (24).
+ */
+public final class PriceOrder {
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int PASSES = Long.SIZE / RADIX_BITS;
+
+    private PriceOrder() {
+    }
+
+    /**
+     * Signed long with the same order as Double.compare(a, b)
+     */
+    public static long sortableKey(double price) {
+        long bits = Double.doubleToLongBits(price); // canonical NaN
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Same order as list.sort(comparing(Product::getPrice).reversed())
+     */
+    public static List<Product> sortByPriceDescending(List<Product> products) {
+        List<Product> source = products instanceof RandomAccess ? products : new ArrayList<>(products);
+        double[] prices = new double[source.size()];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = source.get(i).getPrice();
+        }
+
+        int[] order = argsortDescending(prices);
+        List<Product> sorted = new ArrayList<>(order.length);
+        for (int index : order) {
+            sorted.add(source.get(index));
+        }
+        return sorted;
+    }
+
+    /**
+     * Indexes of prices from highest to lowest; equal prices in index order
+     */
+    public static int[] argsortDescending(double[] prices) {
+        int n = prices.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // ~key reverses the order (descending); ^ MIN_VALUE makes it unsigned
+            keys[i] = ~sortableKey(prices[i]) ^ Long.MIN_VALUE;
+        }
+
+        // One scan builds the histograms of all 8 byte positions
+        int[][] counts = new int[PASSES][BUCKETS];
+        for (long key : keys) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & (BUCKETS - 1)]++;
+            }
+        }
+
+        int[] indexes = null; // null = identity, filled by the first real pass
+        long[] keyBuffer = new long[n];
+        int[] indexBuffer = new int[n];
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * RADIX_BITS;
+            if (count[(int) (keys[0] >>> shift) & (BUCKETS - 1)] == n) {
+                continue; // every key has the same byte here
+            }
+
+            int[] offsets = new int[BUCKETS];
+            for (int b = 1; b < BUCKETS; b++) {
+                offsets[b] = offsets[b - 1] + count[b - 1];
+            }
+            for (int i = 0; i < n; i++) {
+                long key = keys[i];
+                int target = offsets[(int) (key >>> shift) & (BUCKETS - 1)]++;
+                keyBuffer[target] = key;
+                indexBuffer[target] = indexes == null ? i : indexes[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapIndexes = indexes == null ? new int[n] : indexes;
+            indexes = indexBuffer;
+            indexBuffer = swapIndexes;
+        }
+
+        if (indexes == null) {
+            // All prices are equal: input order is the answer
+            indexes = new int[n];
+            Arrays.setAll(indexes, i -> i);
+        }
+        return indexes;
+    }
+}
@@ -1,5 +1,6 @@
 package streams.mastery.problem06;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -13,7 +14,7 @@ import java.util.stream.Collectors;
  */
 public class Solution {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         List<Product> products = Arrays.asList(
                 new Product("Phone", 50000),
                 new Product("Laptop", 75000),
@@ -38,6 +39,18 @@ public class Solution {
         System.out.println("Result:");
         result2.forEach(System.out::println);
 
+        // Primitive argsort: radix sort on price bits, no Comparator
+        System.out.println("\n--- Primitive Argsort (No Comparator) ---");
+        List<Product> result4 = withArgsort(products);
+        System.out.println("Result:");
+        result4.forEach(System.out::println);
+
+        // Out-of-core: bounded memory, spills sorted runs to temp files
+        System.out.println("\n--- External Merge Sort (Bounded Memory) ---");
+        List<Product> result3 = withExternalSort(products);
+        System.out.println("Result:");
+        result3.forEach(System.out::println);
+
         // Alternative approaches demonstration
         System.out.println("\n--- Alternative Approaches ---");
         alternativeApproaches(products);
@@ -93,6 +106,30 @@ public class Solution {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Same result as withStreams(), but the price sort is a radix sort on
+     * double[] bits instead of a boxing Comparator
+     * 
+     * See 3_Solution.md: "Performance: Sorting Prices as Bits"
+     */
+    public static List<Product> withArgsort(List<Product> products) {
+        Map<String, Product> seen = new LinkedHashMap<>();
+        for (Product p : PriceOrder.sortByPriceDescending(products)) {
+            seen.putIfAbsent(p.getName(), p); // first = highest price
+        }
+        return new ArrayList<>(seen.values());
+    }
+
+    /**
+     * Same result as withStreams(), but only a bounded amount of rows is
+     * held in memory; the rest is spilled to sorted run files and merged
+     * 
+     * See 3_Solution.md: "Performance: Dedupe Bigger Than Memory"
+     */
+    public static List<Product> withExternalSort(List<Product> products) throws IOException {
+        return new ExternalDedupeSort(ExternalDedupeSort.DEFAULT_MEMORY_BYTES).dedupe(products);
+    }
+
     /**
      * Alternative approaches from 2_Thinking.md
      */
@@ -0,0 +1,162 @@
+package streams.mastery.problem07;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over all orders of all customers, split by ORDER count
+ *
+ * See: 3_Solution.md → "Performance: Balanced Parallel Flatten"
+ *
+ * customers.parallelStream().flatMap(...) splits the CUSTOMER list in
+ * halves. With skewed data one half can hold almost all the orders:
+ *
+ *   customers:  [  2   3   0   1  ...  5_000_000  ...  4  ]
+ *   split:      |------- half ------|------ half -------|
+ *   work:       |   ~100 orders     |  ~5M orders       | → one core busy
+ *
+ * Here every order gets a global position via a prefix sum over
+ * getOrders().size(), and trySplit() halves the POSITION range:
+ *
+ *   prefix:     [0, 2, 5, 5, 6, ..., 1_000_006, ...]
+ *   split:      [0, 500_003) | [500_003, 1_000_006)   → cut inside the big
+ *                                                        customer's orders
+ *
+ * Finding the customer of a position is a binary search on the prefix
+ * array; after that, traversal walks the order lists directly.
+ *
+ * Same elements, same encounter order as flatMap(c -> c.getOrders().stream()).
+ * SIZED and SUBSIZED, so toList()/toArray() also split evenly. The prefix
+ * sum is built once (O(customers)); the customers and their order lists
+ * must not change while the stream runs.
+ */
+public final class BalancedOrderSpliterator implements Spliterator<Order> {
+
+    // Below this many orders a split costs more than it saves
+    static final int MIN_SPLIT = 1 << 10;
+
+    private final List<Customer> customers;
+    // prefix[c] = number of orders before customer c; prefix[customers.size()] = total
+    private final long[] prefix;
+
+    private long position;
+    private final long end;
+
+    private BalancedOrderSpliterator(List<Customer> customers, long[] prefix, long position, long end) {
+        this.customers = customers;
+        this.prefix = prefix;
+        this.position = position;
+        this.end = end;
+    }
+
+    /**
+     * All orders of all customers, in flatMap encounter order
+     */
+    public static Spliterator<Order> over(List<Customer> customers) {
+        List<Customer> indexed = customers instanceof RandomAccess ? customers : new ArrayList<>(customers);
+        long[] prefix = new long[indexed.size() + 1];
+        for (int c = 0; c < indexed.size(); c++) {
+            prefix[c + 1] = prefix[c] + indexed.get(c).getOrders().size();
+        }
+        return new BalancedOrderSpliterator(indexed, prefix, 0, prefix[indexed.size()]);
+    }
+
+    /**
+     * Same as customers.(parallel)Stream().flatMap(c -> c.getOrders().stream())
+     */
+    public static Stream<Order> orders(List<Customer> customers, boolean parallel) {
+        return StreamSupport.stream(over(customers), parallel);
+    }
+
+    /**
+     * Customer owning global position p: the last c with prefix[c] <= p
+     * (customers without orders are skipped automatically)
+     */
+    private int customerAt(long p) {
+        int low = 0;
+        int high = customers.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (prefix[mid] <= p) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Order> action) {
+        Objects.requireNonNull(action);
+        if (position >= end) {
+            return false;
+        }
+        int c = customerAt(position);
+        Order order = customers.get(c).getOrders().get((int) (position - prefix[c]));
+        position++;
+        action.accept(order);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Order> action) {
+        Objects.requireNonNull(action);
+        if (position >= end) {
+            return;
+        }
+        long p = position;
+        long stop = end;
+        position = stop;
+
+        for (int c = customerAt(p); p < stop; c++) {
+            // This customer's orders inside [p, stop)
+            int from = (int) (p - prefix[c]);
+            int to = (int) (Math.min(stop, prefix[c + 1]) - prefix[c]);
+            List<Order> orders = customers.get(c).getOrders();
+            if (orders instanceof RandomAccess) {
+                for (int i = from; i < to; i++) {
+                    action.accept(orders.get(i));
+                }
+            } else {
+                Iterator<Order> iterator = orders.listIterator(from);
+                for (int i = from; i < to; i++) {
+                    action.accept(iterator.next());
+                }
+            }
+            p += to - from;
+        }
+    }
+
+    /**
+     * Halve the remaining ORDERS - may cut one customer's list in two
+     */
+    @Override
+    public Spliterator<Order> trySplit() {
+        long remaining = end - position;
+        if (remaining < 2L * MIN_SPLIT) {
+            return null;
+        }
+        long middle = position + remaining / 2;
+        Spliterator<Order> prefixPart = new BalancedOrderSpliterator(customers, prefix, position, middle);
+        position = middle;
+        return prefixPart;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,208 @@
+package streams.mastery.problem07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Customers and their orders in compressed sparse row (CSR) layout
+ *
+ * See: 3_Solution.md → "Performance: Flatten Once, Store Flat"
+ *
+ * List<Customer> (nested objects):        CustomerOrderTable (flat arrays):
+ *   Ravi  → [ORD-001, ORD-002]              orderStart: [0, 2, 5, 6, 6]
+ *   Priya → [ORD-003, ORD-004, ORD-005]     orderIds:   [001, 002, 003, 004, 005, 006]
+ *   Arjun → [ORD-006]                       amounts:    [1500, 2500, 800, 3200, 1100, 4500]
+ *   Empty → []
+ *
+ * Customer c owns orders [orderStart[c], orderStart[c + 1]). The orders are
+ * already "flattened" - in the same order flatMap would produce them - so:
+ *
+ *   all order ids           → one array copy
+ *   total amount            → one loop over double[], no Order objects
+ *   orders with amount > X  → one loop, objects only for the matches
+ *
+ * Customers are appended with their orders (addCustomer, then addOrder).
+ * NOT thread-safe for concurrent adds.
+ */
+public final class CustomerOrderTable {
+
+    private String[] customerIds;
+    private String[] customerNames;
+    // orderStart[c] = first order of customer c; orderStart[customerCount] = orderCount
+    private int[] orderStart;
+    private int customerCount;
+
+    private String[] orderIds;
+    private double[] amounts;
+    private int orderCount;
+
+    public CustomerOrderTable() {
+        this(16, 16);
+    }
+
+    public CustomerOrderTable(int customerCapacity, int orderCapacity) {
+        customerIds = new String[customerCapacity];
+        customerNames = new String[customerCapacity];
+        orderStart = new int[customerCapacity + 1];
+        orderIds = new String[orderCapacity];
+        amounts = new double[orderCapacity];
+    }
+
+    /**
+     * Exactly sized: counts the orders first, then copies each one once
+     */
+    public static CustomerOrderTable from(List<Customer> customers) {
+        long totalOrders = 0;
+        for (Customer customer : customers) {
+            totalOrders += customer.getOrders().size();
+        }
+        if (totalOrders > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many orders for one table: " + totalOrders);
+        }
+
+        CustomerOrderTable table = new CustomerOrderTable(customers.size(), (int) totalOrders);
+        customers.forEach(table::add);
+        return table;
+    }
+
+    public void add(Customer customer) {
+        addCustomer(customer.getId(), customer.getName());
+        for (Order order : customer.getOrders()) {
+            addOrder(order.getId(), order.getAmount());
+        }
+    }
+
+    /**
+     * Starts a new customer; following addOrder() calls belong to it
+     *
+     * @return the customer's index
+     */
+    public int addCustomer(String id, String name) {
+        if (customerCount == customerIds.length) {
+            int capacity = Math.max(16, customerCount * 2);
+            customerIds = Arrays.copyOf(customerIds, capacity);
+            customerNames = Arrays.copyOf(customerNames, capacity);
+            orderStart = Arrays.copyOf(orderStart, capacity + 1);
+        }
+        customerIds[customerCount] = id;
+        customerNames[customerCount] = name;
+        customerCount++;
+        orderStart[customerCount] = orderCount;
+        return customerCount - 1;
+    }
+
+    /**
+     * Appends an order to the most recently added customer
+     */
+    public void addOrder(String id, double amount) {
+        if (customerCount == 0) {
+            throw new IllegalStateException("addCustomer() must come before addOrder()");
+        }
+        if (orderCount == amounts.length) {
+            if (orderCount == Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Too many orders for one table");
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, orderCount * 2L));
+            orderIds = Arrays.copyOf(orderIds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        orderIds[orderCount] = id;
+        amounts[orderCount] = amount;
+        orderCount++;
+        orderStart[customerCount] = orderCount;
+    }
+
+    public int customerCount() {
+        return customerCount;
+    }
+
+    public int orderCount() {
+        return orderCount;
+    }
+
+    public int orderCount(int customer) {
+        checkCustomer(customer);
+        return orderStart[customer + 1] - orderStart[customer];
+    }
+
+    /**
+     * Rebuild customer c as objects (for display - the scans never do this)
+     */
+    public Customer getCustomer(int customer) {
+        checkCustomer(customer);
+        List<Order> orders = new ArrayList<>(orderCount(customer));
+        for (int i = orderStart[customer]; i < orderStart[customer + 1]; i++) {
+            orders.add(new Order(orderIds[i], amounts[i]));
+        }
+        return new Customer(customerIds[customer], customerNames[customer], orders);
+    }
+
+    /**
+     * Same as: flatMap(c -> c.getOrders().stream()).map(Order::getId).toList()
+     *
+     * One array copy; the returned list is fixed-size.
+     */
+    public List<String> orderIds() {
+        return Arrays.asList(Arrays.copyOf(orderIds, orderCount));
+    }
+
+    /**
+     * Same as: flatMap(c -> c.getOrders().stream()).mapToDouble(Order::getAmount).sum()
+     *
+     * Plain left-to-right sum like the for-loop; DoubleStream.sum() adds
+     * error compensation, so the last digits can differ for huge inputs.
+     */
+    public double totalAmount() {
+        double[] amounts = this.amounts;
+        double total = 0;
+        for (int i = 0; i < orderCount; i++) {
+            total += amounts[i];
+        }
+        return total;
+    }
+
+    public double totalAmount(int customer) {
+        checkCustomer(customer);
+        double total = 0;
+        for (int i = orderStart[customer]; i < orderStart[customer + 1]; i++) {
+            total += amounts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Same as: flatMap(...).filter(o -> o.getAmount() > threshold).count()
+     */
+    public long countAbove(double threshold) {
+        double[] amounts = this.amounts;
+        long count = 0;
+        for (int i = 0; i < orderCount; i++) {
+            if (amounts[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Same as: flatMap(...).filter(o -> o.getAmount() > threshold).toList()
+     *
+     * Order objects are created for the matches only.
+     */
+    public List<Order> ordersAbove(double threshold) {
+        List<Order> matches = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            if (amounts[i] > threshold) {
+                matches.add(new Order(orderIds[i], amounts[i]));
+            }
+        }
+        return matches;
+    }
+
+    private void checkCustomer(int customer) {
+        if (customer < 0 || customer >= customerCount) {
+            throw new IndexOutOfBoundsException("Customer " + customer + " out of bounds for size " + customerCount);
+        }
+    }
+}
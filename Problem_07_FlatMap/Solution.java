@@ -44,6 +44,18 @@ public class Solution {
         List<String> result2 = withStreams(customers);
         System.out.println("Order IDs: " + result2);
         
+        // With Streams - mapMulti (no Stream per customer)
+        System.out.println("\n--- With Streams (mapMulti) ---");
+        List<String> result3 = withMapMulti(customers);
+        System.out.println("Order IDs: " + result3);
+        
+        // Flat CSR table - flattened once, queried as arrays
+        System.out.println("\n--- With CustomerOrderTable (CSR) ---");
+        CustomerOrderTable table = CustomerOrderTable.from(customers);
+        System.out.println("Order IDs: " + withTable(table));
+        System.out.println("Total amount: " + table.totalAmount());
+        System.out.println("Orders > 2000: " + table.ordersAbove(2000));
+        
         // More examples
         System.out.println("\n--- More flatMap Examples ---");
         moreExamples(customers);
@@ -85,6 +97,54 @@ public class Solution {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream approach using mapMulti() (Java 16+)
+     * 
+     * See 3_Solution.md: "Performance: Flatten Once, Store Flat"
+     * 
+     * flatMap builds a whole Stream (spliterator + pipeline) per customer,
+     * even for customers with 0 orders. mapMulti hands the lambda a
+     * downstream Consumer: each order is pushed straight into it.
+     */
+    public static List<String> withMapMulti(List<Customer> customers) {
+        return customers.stream()
+            .<String>mapMulti((customer, downstream) -> {
+                for (Order order : customer.getOrders()) {
+                    downstream.accept(order.getId());
+                }
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Same result from the CSR table: the orders are already flat
+     * 
+     * See CustomerOrderTable.java
+     */
+    public static List<String> withTable(CustomerOrderTable table) {
+        return table.orderIds();
+    }
+
+    /**
+     * Total amount, parallel, split by ORDER count instead of customer count
+     * 
+     * See 3_Solution.md: "Performance: Balanced Parallel Flatten"
+     */
+    public static double totalAmountBalanced(List<Customer> customers) {
+        return BalancedOrderSpliterator.orders(customers, true)
+            .mapToDouble(Order::getAmount)
+            .sum();
+    }
+
+    /**
+     * Orders above a threshold, parallel and balanced; encounter order kept
+     */
+    public static List<Order> ordersAboveBalanced(List<Customer> customers, double threshold) {
+        return BalancedOrderSpliterator.orders(customers, true)
+            .filter(o -> o.getAmount() > threshold)
+            .collect(Collectors.toList());
+    }
+
     public static void moreExamples(List<Customer> customers) {
         
         // Example 1: Get ALL orders (not just IDs)
@@ -103,6 +163,16 @@ public class Solution {
                                 .sum();
         System.out.println("   Total: " + total);
         
+        // Same total, no Stream<Order> at all: amounts pushed as primitives
+        double totalMulti = customers.stream()
+                                     .mapMultiToDouble((c, downstream) -> {
+                                         for (Order o : c.getOrders()) {
+                                             downstream.accept(o.getAmount());
+                                         }
+                                     })
+                                     .sum();
+        System.out.println("   Total (mapMultiToDouble): " + totalMulti);
+        
         // Example 3: Filter after flatten - orders > 2000
         System.out.println("\n3. Orders with amount > 2000:");
         customers.stream()
@@ -150,6 +220,12 @@ public class Solution {
             .map(Order::getId)
             .collect(Collectors.toList());
         System.out.println("   Safe result: " + safeResult);
+        
+        // Example 7: Parallel, balanced by order count (skewed customers)
+        // See 3_Solution.md: "Performance: Balanced Parallel Flatten"
+        System.out.println("\n7. Balanced parallel flatten:");
+        System.out.println("   Total: " + totalAmountBalanced(customers));
+        System.out.println("   Orders > 2000: " + ordersAboveBalanced(customers, 2000));
     }
 }
 
@@ -0,0 +1,202 @@
+package streams.mastery.problem08;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * One department's report: names, count, total, average and highest paid
+ *
+ * See: 3_Solution.md → "Performance: One Pass, Whole Report"
+ *
+ * followUpExamples() answers these with FIVE groupingBy calls → five passes
+ * over the employees, five maps, five rounds of hashing the department:
+ *
+ *   groupingBy(dept, mapping(name, toList()))        → pass 1
+ *   groupingBy(dept, counting())                     → pass 2
+ *   groupingBy(dept, summingDouble(salary))          → pass 3
+ *   groupingBy(dept, averagingDouble(salary))        → pass 4
+ *   groupingBy(dept, maxBy(comparing(salary)))       → pass 5
+ *
+ * DepartmentReport.byDepartment() does it in ONE pass: one map lookup per
+ * employee, then primitive accumulators for that department:
+ *
+ *   names.add(name);  count++;  sum += salary (compensated);
+ *   if (salary > maxSalary) highestPaid = employee;
+ *
+ * Parallel streams: partial reports merge per department (names keep
+ * encounter order, the first of equally paid employees wins - same
+ * answers as the five collectors).
+ */
+public final class DepartmentReport {
+
+    private final String department;
+    private final List<String> names;
+    private final long count;
+    private final double totalSalary;
+    private final Employee highestPaid;
+
+    private DepartmentReport(String department, List<String> names, long count, double totalSalary,
+            Employee highestPaid) {
+        this.department = department;
+        this.names = names;
+        this.count = count;
+        this.totalSalary = totalSalary;
+        this.highestPaid = highestPaid;
+    }
+
+    /**
+     * Department → report, in a single traversal
+     */
+    public static Collector<Employee, ?, Map<String, DepartmentReport>> byDepartment() {
+        return Collector.of(Accumulators::new, Accumulators::add, Accumulators::merge, Accumulators::finish);
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    /**
+     * Same as groupingBy(dept, mapping(getName, toList())) - unmodifiable
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Same as groupingBy(dept, counting())
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Same as groupingBy(dept, summingDouble(getSalary))
+     */
+    public double getTotalSalary() {
+        return totalSalary;
+    }
+
+    /**
+     * Same as groupingBy(dept, averagingDouble(getSalary))
+     */
+    public double getAverageSalary() {
+        return totalSalary / count;
+    }
+
+    /**
+     * Same as groupingBy(dept, maxBy(comparing(getSalary))) - never empty here
+     */
+    public Employee getHighestPaid() {
+        return highestPaid;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, total=%.0f, avg=%.2f, highest=%s, names=%s", department, count,
+                totalSalary, getAverageSalary(), highestPaid.getName(), names);
+    }
+
+    /**
+     * Per-department running state of the collect
+     */
+    private static final class Accumulators {
+        private final Map<String, Accumulator> byDepartment = new HashMap<>();
+
+        void add(Employee employee) {
+            String department = Objects.requireNonNull(employee.getDepartment(),
+                    "element cannot be mapped to a null key");
+            Accumulator accumulator = byDepartment.get(department);
+            if (accumulator == null) {
+                accumulator = new Accumulator();
+                byDepartment.put(department, accumulator);
+            }
+            accumulator.add(employee);
+        }
+
+        /**
+         * other holds LATER elements than this (encounter order)
+         */
+        Accumulators merge(Accumulators other) {
+            other.byDepartment.forEach((department, later) -> {
+                Accumulator earlier = byDepartment.get(department);
+                if (earlier == null) {
+                    byDepartment.put(department, later);
+                } else {
+                    earlier.merge(later);
+                }
+            });
+            return this;
+        }
+
+        Map<String, DepartmentReport> finish() {
+            Map<String, DepartmentReport> reports = new HashMap<>(
+                    Math.max(16, (int) (byDepartment.size() / 0.75f) + 1));
+            byDepartment.forEach((department, a) -> reports.put(department,
+                    new DepartmentReport(department, Collections.unmodifiableList(a.names), a.count, a.total(),
+                            a.highestPaid)));
+            return reports;
+        }
+    }
+
+    /**
+     * One department: primitives + the names list
+     */
+    private static final class Accumulator {
+        private final ArrayList<String> names = new ArrayList<>();
+        private long count;
+        // Compensated (Kahan) sum like summingDouble; simpleSum keeps infinities intact
+        private double sum;
+        private double compensation;
+        private double simpleSum;
+        private double maxSalary;
+        private Employee highestPaid;
+
+        void add(Employee employee) {
+            double salary = employee.getSalary();
+            names.add(employee.getName());
+            count++;
+            addToSum(salary);
+            simpleSum += salary;
+            // Strictly greater: the first of equal salaries wins, like maxBy
+            if (highestPaid == null || Double.compare(salary, maxSalary) > 0) {
+                maxSalary = salary;
+                highestPaid = employee;
+            }
+        }
+
+        private void addToSum(double value) {
+            double corrected = value - compensation;
+            double next = sum + corrected;
+            compensation = (next - sum) - corrected;
+            sum = next;
+        }
+
+        void merge(Accumulator later) {
+            names.addAll(later.names);
+            count += later.count;
+            addToSum(later.sum);
+            addToSum(-later.compensation);
+            simpleSum += later.simpleSum;
+            if (Double.compare(later.maxSalary, maxSalary) > 0) {
+                maxSalary = later.maxSalary;
+                highestPaid = later.highestPaid;
+            }
+        }
+
+        /**
+         * Same finish as summingDouble: the running sum minus its compensation
+         */
+        double total() {
+            double total = sum - compensation;
+            if (Double.isNaN(total) && Double.isInfinite(simpleSum)) {
+                return simpleSum;
+            }
+            return total;
+        }
+    }
+}
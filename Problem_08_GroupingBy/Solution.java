@@ -36,6 +36,25 @@ public class Solution {
         Map<String, List<Employee>> result2 = withStreams(employees);
         printMap("By Department", result2);
 
+        // Dense key ids - two passes, exactly-sized buckets
+        System.out.println("\n--- With DenseGrouping (dense key ids) ---");
+        Map<String, List<Employee>> result3 = withDenseGrouping(employees);
+        printMap("By Department", result3);
+        System.out.println("Count:   " + DenseGrouping.counting(employees, Employee::getDepartment));
+        System.out.println("Total:   "
+                + DenseGrouping.summingDouble(employees, Employee::getDepartment, Employee::getSalary));
+        System.out.println("Average: "
+                + DenseGrouping.averagingDouble(employees, Employee::getDepartment, Employee::getSalary));
+        DenseGrouping.maxBy(employees, Employee::getDepartment, Employee::getSalary)
+                .forEach((k, v) -> System.out.println("Highest: " + k + " → " + v.map(Employee::getName).orElse("None")));
+
+        // Parallel: per-thread buckets, merged once
+        System.out.println("\n--- Parallel (StripedGroupingCollector) ---");
+        Map<String, List<Employee>> result4 = employees.parallelStream()
+                .collect(StripedGroupingCollector.groupingByStriped(Employee::getDepartment,
+                        metrics -> System.out.println("Metrics: " + metrics)));
+        printMap("By Department (order inside a group may vary)", result4);
+
         // Follow-up examples
         System.out.println("\n--- Follow-up Questions ---");
         followUpExamples(employees);
@@ -68,6 +87,15 @@ public class Solution {
                 .collect(Collectors.groupingBy(Employee::getDepartment));
     }
 
+    /**
+     * Same groups as withStreams(), without a HashMap lookup + list growth per employee
+     * 
+     * See 3_Solution.md: "Performance: Dense Key Ids"
+     */
+    public static Map<String, List<Employee>> withDenseGrouping(List<Employee> employees) {
+        return DenseGrouping.of(employees, Employee::getDepartment).groups();
+    }
+
     /**
      * Follow-up interview questions
      * See 3_Solution.md: "Common Patterns"
@@ -118,6 +146,13 @@ public class Solution {
                         Collectors.maxBy(Comparator.comparing(Employee::getSalary))));
         highestByDept.forEach((k, v) -> System.out.println("   " + k + ": " + v.map(Employee::getName).orElse("None")));
 
+        // 1-5 together: ONE pass, one typed report per department
+        // See 3_Solution.md: "Performance: One Pass, Whole Report"
+        System.out.println("\n1-5 in a single pass (DepartmentReport):");
+        Map<String, DepartmentReport> reports = employees.stream()
+                .collect(DepartmentReport.byDepartment());
+        reports.values().forEach(report -> System.out.println("   " + report));
+
         // 6. Nested grouping: Department → Salary Range
         // See 3_Solution.md: Pattern 5
         System.out.println("\n6. Nested Grouping (Dept → Salary Range):");
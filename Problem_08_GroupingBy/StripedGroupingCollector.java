@@ -0,0 +1,282 @@
+package streams.mastery.problem08;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Concurrent groupingBy where threads never share a map
+ *
+ * See: 3_Solution.md → "Performance: Striped Concurrent Grouping"
+ *
+ * groupingByConcurrent: ONE ConcurrentHashMap for all threads. With only a
+ * handful of departments every thread hits the same few bins, and every
+ * add goes through the bin lock of a synchronized list:
+ *
+ *   T1 ──┐
+ *   T2 ──┼──→ CHM { IT → [..], HR → [..] }   ← all threads, same 3 bins
+ *   T3 ──┘
+ *
+ * StripedGroupingCollector: each worker thread gets its OWN stripe (a plain
+ * HashMap of ArrayLists) the first time it accumulates. No locks, no CAS,
+ * no shared cache lines while the stream runs. The finisher merges once:
+ *
+ *   T1 → { IT → [..], HR → [..] }  ┐
+ *   T2 → { IT → [..], HR → [..] }  ├──→ sizes summed → exactly-sized lists
+ *   T3 → { IT → [..] }             ┘
+ *
+ * CONCURRENT + UNORDERED like groupingByConcurrent: the order of elements
+ * inside a group is not defined. Stripes are cleared after the merge, so
+ * pooled worker threads do not keep the elements alive.
+ *
+ * Metrics (optional listener, once per collect):
+ *   threads, elements per thread (imbalance), registration CAS retries
+ *   (the only shared write), merged buckets, merge time.
+ */
+public final class StripedGroupingCollector<T, K>
+        implements Collector<T, StripedGroupingCollector.Stripes<T, K>, Map<K, List<T>>> {
+
+    private static final Set<Characteristics> CHARACTERISTICS = EnumSet.of(Characteristics.CONCURRENT,
+            Characteristics.UNORDERED);
+
+    private final Function<? super T, ? extends K> classifier;
+    private final Consumer<? super Metrics> metricsListener;
+
+    private StripedGroupingCollector(Function<? super T, ? extends K> classifier,
+            Consumer<? super Metrics> metricsListener) {
+        this.classifier = Objects.requireNonNull(classifier, "classifier");
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Same groups as groupingByConcurrent(classifier)
+     */
+    public static <T, K> Collector<T, ?, Map<K, List<T>>> groupingByStriped(
+            Function<? super T, ? extends K> classifier) {
+        return new StripedGroupingCollector<>(classifier, null);
+    }
+
+    /**
+     * Same, and hands the contention / merge metrics of every collect to the listener
+     */
+    public static <T, K> Collector<T, ?, Map<K, List<T>>> groupingByStriped(
+            Function<? super T, ? extends K> classifier, Consumer<? super Metrics> metricsListener) {
+        return new StripedGroupingCollector<>(classifier, Objects.requireNonNull(metricsListener, "metricsListener"));
+    }
+
+    @Override
+    public Supplier<Stripes<T, K>> supplier() {
+        return Stripes::new;
+    }
+
+    @Override
+    public BiConsumer<Stripes<T, K>, T> accumulator() {
+        return (stripes, element) -> stripes.local().add(classifier.apply(element), element);
+    }
+
+    /**
+     * Only used when the stream does not run concurrently: just adopt the stripes
+     */
+    @Override
+    public BinaryOperator<Stripes<T, K>> combiner() {
+        return Stripes::adopt;
+    }
+
+    @Override
+    public Function<Stripes<T, K>, Map<K, List<T>>> finisher() {
+        return this::merge;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * One pass over all stripes: sum the sizes, then copy each bucket once
+     */
+    private Map<K, List<T>> merge(Stripes<T, K> stripes) {
+        long start = System.nanoTime();
+
+        List<Stripe<T, K>> all = new ArrayList<>();
+        for (Stripe<T, K> stripe = stripes.head.get(); stripe != null; stripe = stripe.next) {
+            all.add(stripe);
+        }
+
+        Map<K, int[]> sizes = new HashMap<>();
+        int mergedBuckets = 0;
+        for (Stripe<T, K> stripe : all) {
+            for (Map.Entry<K, List<T>> bucket : stripe.buckets.entrySet()) {
+                sizes.computeIfAbsent(bucket.getKey(), k -> new int[1])[0] += bucket.getValue().size();
+                mergedBuckets++;
+            }
+        }
+
+        Map<K, List<T>> result = new HashMap<>(Math.max(16, (int) (sizes.size() / 0.75f) + 1));
+        sizes.forEach((key, size) -> result.put(key, new ArrayList<>(size[0])));
+        long[] elementsPerThread = new long[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            Stripe<T, K> stripe = all.get(i);
+            stripe.buckets.forEach((key, bucket) -> result.get(key).addAll(bucket));
+            elementsPerThread[i] = stripe.elements;
+            stripe.buckets.clear(); // the stripe outlives the collect in the worker's ThreadLocalMap
+        }
+
+        if (metricsListener != null) {
+            metricsListener.accept(new Metrics(elementsPerThread, result.size(), stripes.registrationRetries.get(),
+                    mergedBuckets, System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    /**
+     * The collect's container: a lock-free stack of per-thread stripes
+     */
+    static final class Stripes<T, K> {
+        private final AtomicReference<Stripe<T, K>> head = new AtomicReference<>();
+        private final AtomicInteger registrationRetries = new AtomicInteger();
+        private final ThreadLocal<Stripe<T, K>> local = ThreadLocal.withInitial(this::register);
+
+        Stripe<T, K> local() {
+            return local.get();
+        }
+
+        /**
+         * First accumulate on a thread: push its stripe (the only shared write)
+         */
+        private Stripe<T, K> register() {
+            Stripe<T, K> stripe = new Stripe<>();
+            Stripe<T, K> current = head.get();
+            stripe.next = current;
+            while (!head.compareAndSet(current, stripe)) {
+                registrationRetries.incrementAndGet();
+                current = head.get();
+                stripe.next = current;
+            }
+            return stripe;
+        }
+
+        Stripes<T, K> adopt(Stripes<T, K> other) {
+            Stripe<T, K> stripe = other.head.get();
+            while (stripe != null) {
+                Stripe<T, K> next = stripe.next;
+                stripe.next = head.get();
+                head.set(stripe);
+                stripe = next;
+            }
+            registrationRetries.addAndGet(other.registrationRetries.get());
+            return this;
+        }
+    }
+
+    /**
+     * One thread's buckets - touched by that thread only until the merge
+     */
+    static final class Stripe<T, K> {
+        private final Map<K, List<T>> buckets = new HashMap<>();
+        private long elements;
+        private Stripe<T, K> next;
+
+        void add(K key, T element) {
+            Objects.requireNonNull(key, "element cannot be mapped to a null key");
+            List<T> bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.put(key, bucket);
+            }
+            bucket.add(element);
+            elements++;
+        }
+    }
+
+    /**
+     * What one collect cost: who did the work, and what the merge took
+     */
+    public static final class Metrics {
+        private final long[] elementsPerThread;
+        private final int keys;
+        private final int registrationRetries;
+        private final int mergedBuckets;
+        private final long mergeNanos;
+
+        Metrics(long[] elementsPerThread, int keys, int registrationRetries, int mergedBuckets, long mergeNanos) {
+            this.elementsPerThread = elementsPerThread;
+            this.keys = keys;
+            this.registrationRetries = registrationRetries;
+            this.mergedBuckets = mergedBuckets;
+            this.mergeNanos = mergeNanos;
+        }
+
+        /**
+         * Threads that accumulated at least once (= stripes)
+         */
+        public int getThreads() {
+            return elementsPerThread.length;
+        }
+
+        public long[] getElementsPerThread() {
+            return elementsPerThread.clone();
+        }
+
+        public long getElements() {
+            long total = 0;
+            for (long count : elementsPerThread) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Busiest thread / average thread: 1.0 = perfectly even
+         */
+        public double getImbalance() {
+            long max = 0;
+            for (long count : elementsPerThread) {
+                max = Math.max(max, count);
+            }
+            long total = getElements();
+            return total == 0 ? 1.0 : max * (double) elementsPerThread.length / total;
+        }
+
+        public int getKeys() {
+            return keys;
+        }
+
+        /**
+         * Failed CAS while threads registered their stripes - once per thread, not per element
+         */
+        public int getRegistrationRetries() {
+            return registrationRetries;
+        }
+
+        /**
+         * Per-thread buckets folded into the result (threads × keys at most)
+         */
+        public int getMergedBuckets() {
+            return mergedBuckets;
+        }
+
+        public long getMergeNanos() {
+            return mergeNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("threads=%d, elements=%,d, imbalance=%.2f, keys=%d, casRetries=%d, "
+                    + "mergedBuckets=%d, merge=%.3f ms", getThreads(), getElements(), getImbalance(), keys,
+                    registrationRetries, mergedBuckets, mergeNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package streams.mastery.problem09;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable set of row numbers, compressed per 64K-row chunk
+ *
+ * See: 3_Solution.md → "Performance: Cached Predicate Slices"
+ *
+ * A plain java.util.BitSet costs n/8 bytes however few rows match. Here
+ * the rows are split into chunks of 65,536 (high 16 bits = chunk key) and
+ * each non-empty chunk picks its cheaper container (container-style, as
+ * in Roaring bitmaps):
+ *
+ *   matching rows in chunk     container                     size
+ *   ≤ 4096  (sparse)           sorted char[] of low 16 bits  2 bytes/row
+ *   > 4096  (dense)            long[1024] bitmap             8 KB fixed
+ *   0                          none (chunk key absent)       0
+ *
+ *   keys:        [  0,        1,          3     ]
+ *   containers:  [ bitmap,   char[12],   bitmap ]    chunk 2 is empty
+ *
+ * and / or / andNot walk both key lists like a merge; per chunk:
+ *   bitmap ∘ bitmap → 1024 word operations + bitCount
+ *   array  ∘ bitmap → one bit test per array value
+ *   array  ∘ array  → sorted merge
+ *
+ * Cardinality is kept per container, so cardinality() is O(chunks).
+ * Containers are never modified after construction, so results share
+ * the untouched ones with their inputs.
+ */
+public final class CompressedBitSet {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int WORDS = CHUNK_SIZE / Long.SIZE;
+    // Above this an array container would outgrow the 8 KB bitmap
+    private static final int ARRAY_LIMIT = 4096;
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int size;
+    private final long cardinality;
+
+    private CompressedBitSet(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+        long total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    /**
+     * Rows 0 <= row < size where {@code rows} is true; evaluated once per row, in order
+     */
+    public static CompressedBitSet of(int size, IntPredicate rows) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0: " + size);
+        }
+        int chunks = (int) ((size + (long) CHUNK_SIZE - 1) >>> CHUNK_BITS);
+        char[] keys = new char[chunks];
+        Container[] containers = new Container[chunks];
+        int count = 0;
+        long[] words = new long[WORDS];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int base = chunk << CHUNK_BITS;
+            int end = (int) Math.min(size, (long) base + CHUNK_SIZE);
+            Arrays.fill(words, 0L);
+            int cardinality = 0;
+            for (int row = base; row < end; row++) {
+                long bit = rows.test(row) ? 1L : 0L;
+                words[(row - base) >>> 6] |= bit << row; // shift uses the low 6 bits only
+                cardinality += (int) bit;
+            }
+            Container container = Container.compress(words, cardinality);
+            if (container != null) {
+                keys[count] = (char) chunk;
+                containers[count++] = container;
+            }
+        }
+        return new CompressedBitSet(Arrays.copyOf(keys, count), Arrays.copyOf(containers, count), size);
+    }
+
+    /**
+     * Rows 0 <= row < size, all set (the complement of s is all(size).andNot(s))
+     */
+    public static CompressedBitSet all(int size) {
+        return of(size, row -> true);
+    }
+
+    /**
+     * Number of rows the set was built over (not the number of set rows)
+     */
+    public int size() {
+        return size;
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int row) {
+        int index = Arrays.binarySearch(keys, (char) (row >>> CHUNK_BITS));
+        return row >= 0 && index >= 0 && containers[index].contains(row & (CHUNK_SIZE - 1));
+    }
+
+    /**
+     * Rows in both sets
+     */
+    public CompressedBitSet and(CompressedBitSet other) {
+        int capacity = Math.min(keys.length, other.keys.length);
+        char[] resultKeys = new char[capacity];
+        Container[] result = new Container[capacity];
+        int count = 0;
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length;) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container != null) {
+                    resultKeys[count] = keys[i];
+                    result[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new CompressedBitSet(Arrays.copyOf(resultKeys, count), Arrays.copyOf(result, count),
+                Math.max(size, other.size));
+    }
+
+    /**
+     * Rows in either set
+     */
+    public CompressedBitSet or(CompressedBitSet other) {
+        int capacity = keys.length + other.keys.length;
+        char[] resultKeys = new char[capacity];
+        Container[] result = new Container[capacity];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                resultKeys[count] = keys[i];
+                result[count++] = containers[i++];
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                resultKeys[count] = other.keys[j];
+                result[count++] = other.containers[j++];
+            } else {
+                resultKeys[count] = keys[i];
+                result[count++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+        return new CompressedBitSet(Arrays.copyOf(resultKeys, count), Arrays.copyOf(result, count),
+                Math.max(size, other.size));
+    }
+
+    /**
+     * Rows in this set but not in {@code other}
+     */
+    public CompressedBitSet andNot(CompressedBitSet other) {
+        char[] resultKeys = new char[keys.length];
+        Container[] result = new Container[keys.length];
+        int count = 0;
+        for (int i = 0, j = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.keys.length && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i];
+            if (container != null) {
+                resultKeys[count] = keys[i];
+                result[count++] = container;
+            }
+        }
+        return new CompressedBitSet(Arrays.copyOf(resultKeys, count), Arrays.copyOf(result, count), size);
+    }
+
+    /**
+     * Set rows in ascending order
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            containers[i].forEach(keys[i] << CHUNK_BITS, action);
+        }
+    }
+
+    /**
+     * Approximate heap footprint of the containers, for comparing with n/8 bytes
+     */
+    public long sizeInBytes() {
+        long bytes = keys.length * 2L;
+        for (Container container : containers) {
+            bytes += container.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        int bitmaps = 0;
+        for (Container container : containers) {
+            bitmaps += container instanceof BitmapContainer ? 1 : 0;
+        }
+        return String.format("CompressedBitSet[cardinality=%,d of %,d, arrays=%d, bitmaps=%d, bytes=%,d]",
+                cardinality, size, containers.length - bitmaps, bitmaps, sizeInBytes());
+    }
+
+    /**
+     * One 64K-row chunk; operations return null when nothing is left
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        abstract void forEach(int base, IntConsumer action);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract long sizeInBytes();
+
+        /**
+         * Cheapest container for these bits (the words are copied, not kept)
+         */
+        static Container compress(long[] words, int cardinality) {
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                return new BitmapContainer(words.clone(), cardinality);
+            }
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values);
+        }
+    }
+
+    /**
+     * Sparse chunk: sorted low 16 bits of the set rows
+     */
+    private static final class ArrayContainer extends Container {
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, (char) low) >= 0;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (char value : values) {
+                action.accept(base + value);
+            }
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof BitmapContainer) {
+                return filter((BitmapContainer) other, true);
+            }
+            char[] those = ((ArrayContainer) other).values;
+            char[] result = new char[Math.min(values.length, those.length)];
+            int count = 0;
+            for (int i = 0, j = 0; i < values.length && j < those.length;) {
+                if (values[i] < those[j]) {
+                    i++;
+                } else if (values[i] > those[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(Arrays.copyOf(result, count));
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            char[] those = ((ArrayContainer) other).values;
+            if (values.length + those.length > ARRAY_LIMIT) {
+                long[] words = toWords();
+                int cardinality = values.length;
+                for (char value : those) {
+                    long before = words[value >>> 6];
+                    words[value >>> 6] = before | (1L << value);
+                    cardinality += (int) ((~before >>> value) & 1L);
+                }
+                return Container.compress(words, cardinality);
+            }
+            char[] result = new char[values.length + those.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < values.length && j < those.length) {
+                if (values[i] < those[j]) {
+                    result[count++] = values[i++];
+                } else if (values[i] > those[j]) {
+                    result[count++] = those[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            while (i < values.length) {
+                result[count++] = values[i++];
+            }
+            while (j < those.length) {
+                result[count++] = those[j++];
+            }
+            return new ArrayContainer(Arrays.copyOf(result, count));
+        }
+
+        @Override
+        Container andNot(Container other) {
+            if (other instanceof BitmapContainer) {
+                return filter((BitmapContainer) other, false);
+            }
+            char[] those = ((ArrayContainer) other).values;
+            char[] result = new char[values.length];
+            int count = 0;
+            for (int i = 0, j = 0; i < values.length; i++) {
+                while (j < those.length && those[j] < values[i]) {
+                    j++;
+                }
+                if (j == those.length || those[j] != values[i]) {
+                    result[count++] = values[i];
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(Arrays.copyOf(result, count));
+        }
+
+        /**
+         * Values whose bit in {@code bitmap} is {@code keep}
+         */
+        private Container filter(BitmapContainer bitmap, boolean keep) {
+            char[] result = new char[values.length];
+            int count = 0;
+            for (char value : values) {
+                result[count] = value;
+                count += bitmap.contains(value) == keep ? 1 : 0;
+            }
+            return count == 0 ? null : new ArrayContainer(Arrays.copyOf(result, count));
+        }
+
+        long[] toWords() {
+            long[] words = new long[WORDS];
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+            return words;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + values.length * 2L;
+        }
+    }
+
+    /**
+     * Dense chunk: one bit per row
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private final int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    action.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            int cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] = words[w] & those[w];
+                cardinality += Long.bitCount(result[w]);
+            }
+            return compressOwned(result, cardinality);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            int cardinality = this.cardinality;
+            if (other instanceof ArrayContainer) {
+                for (char value : ((ArrayContainer) other).values) {
+                    long before = result[value >>> 6];
+                    result[value >>> 6] = before | (1L << value);
+                    cardinality += (int) ((~before >>> value) & 1L);
+                }
+                return new BitmapContainer(result, cardinality);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] |= those[w];
+                cardinality += Long.bitCount(result[w]);
+            }
+            return new BitmapContainer(result, cardinality);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            int cardinality = this.cardinality;
+            if (other instanceof ArrayContainer) {
+                for (char value : ((ArrayContainer) other).values) {
+                    long before = result[value >>> 6];
+                    result[value >>> 6] = before & ~(1L << value);
+                    cardinality -= (int) ((before >>> value) & 1L);
+                }
+                return compressOwned(result, cardinality);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] &= ~those[w];
+                cardinality += Long.bitCount(result[w]);
+            }
+            return compressOwned(result, cardinality);
+        }
+
+        /**
+         * Like compress(), but keeps {@code result} instead of copying it
+         */
+        private static Container compressOwned(long[] result, int cardinality) {
+            return cardinality > ARRAY_LIMIT ? new BitmapContainer(result, cardinality)
+                    : Container.compress(result, cardinality);
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + WORDS * 8L;
+        }
+    }
+}
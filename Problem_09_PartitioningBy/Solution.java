@@ -36,6 +36,22 @@ public class Solution {
         Map<Boolean, List<Student>> result2 = withStreams(students);
         printResult(result2);
 
+        // Arrays: stable copy, counts and averages from the same pass
+        System.out.println("\n--- With PartitionEngine (stable, arrays) ---");
+        Map<Boolean, List<Student>> result3 = withPartitionEngine(students);
+        printResult(result3);
+        Student[] array = students.toArray(new Student[0]);
+        PartitionEngine.Partition<Student> inPlace = PartitionEngine.inPlace(array, s -> s.getMarks() >= 40,
+                Student::getMarks);
+        System.out.println("   In place (order not kept): " + inPlace.matching().size() + " | "
+                + inPlace.rest().size());
+        System.out.println("   Count:   " + inPlace.counting());
+        System.out.println("   Average: " + inPlace.averagingDouble());
+
+        // Cached slices: each predicate evaluated once, then combined as bitsets
+        System.out.println("\n--- With StudentSlices (cached bitsets) ---");
+        slicesExamples(students);
+
         // Follow-up examples
         System.out.println("\n--- Follow-up Questions ---");
         followUpExamples(students);
@@ -76,6 +92,15 @@ public class Solution {
                 .collect(Collectors.partitioningBy(s -> s.getMarks() >= 40));
     }
 
+    /**
+     * Same result as withStreams(), from an exactly-sized two-array partition
+     *
+     * See 3_Solution.md: "Performance: Partitioning Arrays"
+     */
+    public static Map<Boolean, List<Student>> withPartitionEngine(List<Student> students) {
+        return PartitionEngine.stable(students.toArray(new Student[0]), s -> s.getMarks() >= 40).toMap();
+    }
+
     public static void followUpExamples(List<Student> students) {
 
         // 1. Count pass/fail
@@ -126,6 +151,24 @@ public class Solution {
         System.out.println("   Fail highest: " + toppers.get(false).map(Student::getName).orElse("None"));
     }
 
+    /**
+     * Slice once, combine many times
+     * See 3_Solution.md: "Performance: Cached Predicate Slices"
+     */
+    public static void slicesExamples(List<Student> students) {
+        StudentSlices slices = StudentSlices.of(students);
+        CompressedBitSet pass = slices.slice("pass", StudentSlices.PASS);
+        CompressedBitSet distinction = slices.slice("distinction", StudentSlices.DISTINCTION);
+        CompressedBitSet firstClass = slices.slice("firstClass", StudentSlices.gradeBand(60, 75));
+        CompressedBitSet fail = slices.all().andNot(pass);
+
+        System.out.println("   Pass: " + slices.count(pass) + ", avg "
+                + String.format("%.2f", slices.average(pass, Student::getMarks)));
+        System.out.println("   Fail: " + slices.names(fail));
+        System.out.println("   Pass, no distinction: " + slices.names(pass.andNot(distinction)));
+        System.out.println("   First class or distinction: " + slices.names(firstClass.or(distinction)));
+    }
+
     /**
      * Edge case: All students pass
      * See 3_Solution.md: "Why Both Keys Matter"
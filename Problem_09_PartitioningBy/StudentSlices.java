@@ -0,0 +1,137 @@
+package streams.mastery.problem09;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Student predicates evaluated once, combined as compressed bitsets
+ *
+ * See: 3_Solution.md → "Performance: Cached Predicate Slices"
+ *
+ * followUpExamples() runs partitioningBy(marks >= 40, ...) five times →
+ * the same predicate evaluated 5 × n times. Slicing by several predicates
+ * and intersecting them with streams re-evaluates every predicate again:
+ *
+ *   students.stream().filter(PASS).filter(DISTINCTION.negate())...   → every query
+ *
+ * StudentSlices evaluates each NAMED predicate once over the table and
+ * keeps the matching rows as a CompressedBitSet. Queries are then bit
+ * operations, and only the rows in the final slice are ever loaded:
+ *
+ *   pass        = slice("pass", PASS)                    ← n predicate calls, once
+ *   distinction = slice("distinction", DISTINCTION)      ← n predicate calls, once
+ *   pass.andNot(distinction)                             ← word operations
+ *   count(...)  → cardinality, no Student touched
+ *   average(...), names(...) → only the selected rows
+ *
+ * Building slices is not thread-safe; the bitsets themselves are immutable.
+ */
+public final class StudentSlices {
+
+    public static final Predicate<Student> PASS = s -> s.getMarks() >= 40;
+    public static final Predicate<Student> DISTINCTION = s -> s.getMarks() >= 75;
+    // No attendance field: a student with 0 marks is treated as absent
+    public static final Predicate<Student> ABSENT = s -> s.getMarks() == 0;
+
+    private final Student[] students;
+    private final Map<String, CompressedBitSet> slices = new HashMap<>();
+
+    private StudentSlices(Student[] students) {
+        this.students = students;
+    }
+
+    /**
+     * Marks in [fromMarks, toMarks) - e.g. gradeBand(60, 75) for a first class
+     */
+    public static Predicate<Student> gradeBand(int fromMarks, int toMarks) {
+        return s -> s.getMarks() >= fromMarks && s.getMarks() < toMarks;
+    }
+
+    /**
+     * Row i of every slice is students.get(i)
+     */
+    public static StudentSlices of(List<Student> students) {
+        return new StudentSlices(students.toArray(new Student[0]));
+    }
+
+    public int size() {
+        return students.length;
+    }
+
+    /**
+     * The cached slice {@code name}; evaluates {@code predicate} over all students the first time only
+     */
+    public CompressedBitSet slice(String name, Predicate<? super Student> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        CompressedBitSet slice = slices.get(name);
+        if (slice == null) {
+            slice = CompressedBitSet.of(students.length, row -> predicate.test(students[row]));
+            slices.put(name, slice);
+        }
+        return slice;
+    }
+
+    /**
+     * A slice built earlier by slice(name, predicate)
+     */
+    public CompressedBitSet slice(String name) {
+        CompressedBitSet slice = slices.get(name);
+        if (slice == null) {
+            throw new IllegalArgumentException("Unknown slice: " + name);
+        }
+        return slice;
+    }
+
+    /**
+     * Every student - the complement of s is all().andNot(s)
+     */
+    public CompressedBitSet all() {
+        return slice("all", s -> true);
+    }
+
+    /**
+     * Same as filter(...).count() - no Student is loaded
+     */
+    public long count(CompressedBitSet slice) {
+        return slice.cardinality();
+    }
+
+    /**
+     * Same as filter(...).collect(averagingDouble(value)): 0.0 when empty
+     */
+    public double average(CompressedBitSet slice, ToDoubleFunction<? super Student> value) {
+        if (slice.isEmpty()) {
+            return 0.0;
+        }
+        // Same compensated sum as averagingDouble; every row of the slice is a "matching" one
+        PartitionEngine.Sums sums = new PartitionEngine.Sums();
+        slice.forEach(row -> sums.add(1, value.applyAsDouble(students[row])));
+        return sums.total(1) / slice.cardinality();
+    }
+
+    /**
+     * Same as filter(...).map(getName).collect(toList()), in table order
+     */
+    public List<String> names(CompressedBitSet slice) {
+        return map(slice, Student::getName);
+    }
+
+    /**
+     * Same as filter(...).collect(toList()), in table order
+     */
+    public List<Student> students(CompressedBitSet slice) {
+        return map(slice, s -> s);
+    }
+
+    private <R> List<R> map(CompressedBitSet slice, Function<Student, R> mapper) {
+        List<R> result = new ArrayList<>((int) slice.cardinality());
+        slice.forEach(row -> result.add(mapper.apply(students[row])));
+        return result;
+    }
+}
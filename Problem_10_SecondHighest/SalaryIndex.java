@@ -0,0 +1,332 @@
+package streams.mastery.problem10;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Live "nth highest salary in department X" while salaries change
+ *
+ * See: 3_Solution.md → "Performance: Live Salary Index"
+ *
+ * getNthHighest() sorts the department on EVERY question: O(n log n) per
+ * query. SalaryIndex keeps each department in order-statistic trees -
+ * balanced (AVL) trees where every node also stores its subtree size:
+ *
+ *                 80k (size 5)
+ *                /            \
+ *        92k (size 2)      75k (size 2)       order: highest salary first
+ *           /                   \
+ *     95k (1)                  55k (1)
+ *
+ *   nthHighest(n): at each node compare n with size(left) + 1 → go left,
+ *   stop, or go right with n reduced. One root-to-leaf walk: O(log n).
+ *
+ * add / remove / updateSalary: one tree insert and/or delete with
+ * rotations, sizes fixed on the way up - O(log n) each.
+ *
+ * Two trees per department, for the two answers in testEdgeCases():
+ *   employees  (salary desc, seq asc) → nthHighest: duplicates count,
+ *              equal salaries in insertion order (like the stable sort)
+ *   salaries   distinct salaries (+ a count each) → nthHighestDistinctSalary
+ *
+ * An update keeps the employee's place among equal salaries, so answers
+ * equal getNthHighest() on the department's list with that salary
+ * changed in place. Not thread-safe.
+ */
+public final class SalaryIndex {
+
+    private static final Comparator<Entry> HIGHEST_FIRST = (a, b) -> {
+        int compare = Double.compare(b.salary, a.salary);
+        return compare != 0 ? compare : Long.compare(a.seq, b.seq);
+    };
+    private static final Comparator<Double> HIGHEST_SALARY_FIRST = (a, b) -> Double.compare(b, a);
+
+    private final Map<String, Department> departments = new HashMap<>();
+    private final Map<String, Entry> byId = new HashMap<>();
+    private long nextSeq;
+
+    /**
+     * Index of these employees; their list order breaks salary ties
+     */
+    public static SalaryIndex of(List<Employee> employees) {
+        SalaryIndex index = new SalaryIndex();
+        employees.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Adds an employee; ranks after everyone already present with the same salary
+     */
+    public void add(Employee employee) {
+        Objects.requireNonNull(employee.getDepartment(), "department");
+        if (byId.containsKey(employee.getId())) {
+            throw new IllegalArgumentException("Employee already indexed: " + employee.getId());
+        }
+        Entry entry = new Entry(employee, nextSeq++);
+        byId.put(employee.getId(), entry);
+        departments.computeIfAbsent(employee.getDepartment(), d -> new Department()).add(entry);
+    }
+
+    /**
+     * Removes the employee with this id, if present
+     */
+    public Optional<Employee> remove(String id) {
+        Entry entry = byId.remove(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        String department = entry.employee.getDepartment();
+        Department ranks = departments.get(department);
+        ranks.remove(entry);
+        if (ranks.employees.size() == 0) {
+            departments.remove(department);
+        }
+        return Optional.of(entry.employee);
+    }
+
+    /**
+     * New salary, same place among equal salaries; returns the updated employee
+     */
+    public Employee updateSalary(String id, double salary) {
+        Entry old = byId.get(id);
+        if (old == null) {
+            throw new IllegalArgumentException("Unknown employee: " + id);
+        }
+        Employee employee = old.employee;
+        Entry updated = new Entry(new Employee(employee.getId(), employee.getName(), salary,
+                employee.getDepartment()), old.seq);
+        Department ranks = departments.get(employee.getDepartment());
+        ranks.remove(old);
+        ranks.add(updated);
+        byId.put(id, updated);
+        return updated.employee;
+    }
+
+    /**
+     * Same as getNthHighest(employees of department, n): duplicates count
+     */
+    public Optional<Employee> nthHighest(String department, int n) {
+        requirePositive(n);
+        Department ranks = departments.get(department);
+        if (ranks == null || n > ranks.employees.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(ranks.employees.select(n - 1).employee);
+    }
+
+    /**
+     * Same as the distinct().sorted(reverseOrder()).skip(n - 1) salary in testEdgeCases()
+     */
+    public OptionalDouble nthHighestDistinctSalary(String department, int n) {
+        requirePositive(n);
+        Department ranks = departments.get(department);
+        if (ranks == null || n > ranks.salaries.size()) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(ranks.salaries.select(n - 1));
+    }
+
+    public int size(String department) {
+        Department ranks = departments.get(department);
+        return ranks == null ? 0 : ranks.employees.size();
+    }
+
+    private static void requirePositive(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+    }
+
+    /**
+     * One employee's position: salary, then insertion sequence for ties
+     */
+    private static final class Entry {
+        private final Employee employee;
+        private final double salary;
+        private final long seq;
+
+        Entry(Employee employee, long seq) {
+            this.employee = employee;
+            this.salary = employee.getSalary();
+            this.seq = seq;
+        }
+    }
+
+    /**
+     * Both rankings of one department
+     */
+    private static final class Department {
+        private final RankTree<Entry> employees = new RankTree<>(HIGHEST_FIRST);
+        private final RankTree<Double> salaries = new RankTree<>(HIGHEST_SALARY_FIRST);
+        // Employees per distinct salary; Double.equals matches Double.compare (NaN, -0.0)
+        private final Map<Double, int[]> salaryCounts = new HashMap<>();
+
+        void add(Entry entry) {
+            employees.insert(entry);
+            int[] count = salaryCounts.computeIfAbsent(entry.salary, s -> new int[1]);
+            if (count[0]++ == 0) {
+                salaries.insert(entry.salary);
+            }
+        }
+
+        void remove(Entry entry) {
+            employees.delete(entry);
+            int[] count = salaryCounts.get(entry.salary);
+            if (--count[0] == 0) {
+                salaryCounts.remove(entry.salary);
+                salaries.delete(entry.salary);
+            }
+        }
+    }
+
+    /**
+     * AVL tree with subtree sizes: insert, delete and select(rank) in O(log n)
+     */
+    private static final class RankTree<K> {
+        private final Comparator<? super K> order;
+        private Node<K> root;
+
+        RankTree(Comparator<? super K> order) {
+            this.order = order;
+        }
+
+        int size() {
+            return size(root);
+        }
+
+        /**
+         * Key at 0-based {@code rank} in tree order
+         */
+        K select(int rank) {
+            Node<K> node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (rank < leftSize) {
+                    node = node.left;
+                } else if (rank == leftSize) {
+                    return node.key;
+                } else {
+                    rank -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            throw new IndexOutOfBoundsException("rank " + rank);
+        }
+
+        void insert(K key) {
+            root = insert(root, key);
+        }
+
+        private Node<K> insert(Node<K> node, K key) {
+            if (node == null) {
+                return new Node<>(key);
+            }
+            int compare = order.compare(key, node.key);
+            if (compare < 0) {
+                node.left = insert(node.left, key);
+            } else if (compare > 0) {
+                node.right = insert(node.right, key);
+            } else {
+                throw new IllegalStateException("Key already present: " + key);
+            }
+            return rebalance(node);
+        }
+
+        void delete(K key) {
+            root = delete(root, key);
+        }
+
+        private Node<K> delete(Node<K> node, K key) {
+            if (node == null) {
+                throw new IllegalStateException("Key not present: " + key);
+            }
+            int compare = order.compare(key, node.key);
+            if (compare < 0) {
+                node.left = delete(node.left, key);
+            } else if (compare > 0) {
+                node.right = delete(node.right, key);
+            } else {
+                if (node.left == null) {
+                    return node.right;
+                }
+                if (node.right == null) {
+                    return node.left;
+                }
+                // Two children: take the next key in order, then delete it from the right
+                Node<K> next = node.right;
+                while (next.left != null) {
+                    next = next.left;
+                }
+                node.key = next.key;
+                node.right = delete(node.right, next.key);
+            }
+            return rebalance(node);
+        }
+
+        private static <K> Node<K> rebalance(Node<K> node) {
+            update(node);
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static <K> Node<K> rotateRight(Node<K> node) {
+            Node<K> left = node.left;
+            node.left = left.right;
+            left.right = node;
+            update(node);
+            update(left);
+            return left;
+        }
+
+        private static <K> Node<K> rotateLeft(Node<K> node) {
+            Node<K> right = node.right;
+            node.right = right.left;
+            right.left = node;
+            update(node);
+            update(right);
+            return right;
+        }
+
+        private static <K> void update(Node<K> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            node.size = 1 + size(node.left) + size(node.right);
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    private static final class Node<K> {
+        private K key;
+        private Node<K> left;
+        private Node<K> right;
+        private int height = 1;
+        private int size = 1;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -39,6 +39,11 @@ public class Solution {
         Map<String, Optional<Employee>> result2 = approachB(employees);
         printResult(result2);
 
+        // Approach C: keep only the top 2 per department, no sorting
+        System.out.println("\n--- Approach C: Top-k per Group ---");
+        Map<String, Optional<Employee>> result3 = approachC(employees);
+        printResult(result3);
+
         // Edge cases
         System.out.println("\n--- Edge Cases ---");
         testEdgeCases();
@@ -46,6 +51,10 @@ public class Solution {
         // Bonus: Nth highest
         System.out.println("\n--- Bonus: Nth Highest ---");
         nthHighestExample(employees);
+
+        // Live: salaries change, nth highest stays O(log n)
+        System.out.println("\n--- Live Salary Index ---");
+        liveIndexExample(employees);
     }
 
     /**
@@ -84,6 +93,15 @@ public class Solution {
                                         .findFirst())));
     }
 
+    /**
+     * Approach C: bounded top-k per department instead of a full sort
+     * See 3_Solution.md: "Performance: Top-k Without Sorting"
+     */
+    public static Map<String, Optional<Employee>> approachC(List<Employee> employees) {
+        return employees.stream()
+                .collect(TopK.nthHighestPerGroup(Employee::getDepartment, Employee::getSalary, 2));
+    }
+
     /**
      * Edge cases testing
      */
@@ -142,16 +160,45 @@ public class Solution {
                 .sorted(Comparator.comparing(Employee::getSalary).reversed())
                 .forEach(e -> System.out.println("  " + e.getName() + " - " + e.getSalary()));
 
-        // Find 1st, 2nd, 3rd highest
+        // Find 1st, 2nd, 3rd highest - quickselect, no sort per n
         for (int n = 1; n <= 4; n++) {
-            Optional<Employee> nth = getNthHighest(itEmployees, n);
+            Optional<Employee> nth = TopK.nthHighest(itEmployees, Employee::getSalary, n);
             System.out.println(n + " highest: " +
                     nth.map(e -> e.getName() + " (" + e.getSalary() + ")").orElse("NONE"));
         }
     }
 
+    /**
+     * Order-statistic index: queries between salary changes, no re-sorting
+     * See 3_Solution.md: "Performance: Live Salary Index"
+     */
+    public static void liveIndexExample(List<Employee> employees) {
+        SalaryIndex index = SalaryIndex.of(employees);
+        System.out.println("IT 2nd highest: " + index.nthHighest("IT", 2).map(Employee::getName).orElse("NONE"));
+
+        index.updateSalary("E005", 90000); // Kiran gets a raise
+        System.out.println("After Kiran → 90000, IT 2nd highest: "
+                + index.nthHighest("IT", 2).map(Employee::getName).orElse("NONE"));
+
+        index.remove("E003"); // Arjun leaves
+        System.out.println("After Arjun leaves, IT 1st highest: "
+                + index.nthHighest("IT", 1).map(Employee::getName).orElse("NONE"));
+
+        // Duplicates vs distinct, same data as testEdgeCases() case 3
+        SalaryIndex withTies = SalaryIndex.of(Arrays.asList(
+                new Employee("E1", "Top1", 100000, "Test"),
+                new Employee("E2", "Top2", 100000, "Test"),
+                new Employee("E3", "Second", 80000, "Test"),
+                new Employee("E4", "Third", 60000, "Test")));
+        System.out.println("Test 2nd highest (duplicates count): "
+                + withTies.nthHighest("Test", 2).map(Employee::getName).orElse("NONE"));
+        System.out.println("Test 2nd highest distinct salary: "
+                + withTies.nthHighestDistinctSalary("Test", 2).orElse(0.0));
+    }
+
     /**
      * Generic method: Get Nth highest salary employee
+     * (sorts the whole list - TopK.nthHighest gives the same answer in O(n))
      */
     public static Optional<Employee> getNthHighest(List<Employee> employees, int n) {
         return employees.stream()
@@ -0,0 +1,354 @@
+package streams.mastery.problem10;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Top k per group and nth highest without sorting everything
+ *
+ * See: 3_Solution.md → "Performance: Top-k Without Sorting"
+ *
+ * approachA / approachB sort EVERY department just to read element 2:
+ *   O(n log n) compares (boxed Doubles) + a sorted copy of each list
+ *
+ * topKPerGroup(dept, salary, k) keeps only the best k per department while
+ * the stream runs - O(n log k), memory O(departments × k):
+ *
+ *   k ≤ 4:  tiny array kept sorted, insertion shifts at most 3 slots
+ *           [92k, 85k]  + 88k  →  [92k, 88k]   (85k dropped)
+ *   k > 4:  bounded min-heap, root = worst kept candidate
+ *           new salary enters only if it beats the root
+ *
+ * nthHighest(list, salary, n) - quickselect on (salary, position) arrays:
+ *   expected O(n), partitions only the side that holds rank n
+ *
+ * Ties: same answers as sorted(comparing(getSalary).reversed()).skip(n - 1).
+ * That sort is stable, so equal salaries keep encounter order - both here
+ * rank by (salary desc, encounter position asc). Parallel streams keep it:
+ * partial results merge with the later part's positions shifted.
+ */
+public final class TopK {
+
+    // Up to this k a sorted array beats the heap's bookkeeping
+    private static final int SMALL_K = 4;
+
+    private TopK() {
+    }
+
+    /**
+     * Group → its best k elements by {@code value}, highest first
+     */
+    public static <T, K> Collector<T, ?, Map<K, List<T>>> topKPerGroup(
+            Function<? super T, ? extends K> classifier, ToDoubleFunction<? super T> value, int k) {
+        Objects.requireNonNull(classifier, "classifier");
+        Objects.requireNonNull(value, "value");
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be >= 1: " + k);
+        }
+        return Collector.<T, Map<K, Candidates<T>>, Map<K, List<T>>>of(
+                HashMap::new,
+                (groups, element) -> {
+                    K key = Objects.requireNonNull(classifier.apply(element),
+                            "element cannot be mapped to a null key");
+                    Candidates<T> candidates = groups.get(key);
+                    if (candidates == null) {
+                        candidates = new Candidates<>(k);
+                        groups.put(key, candidates);
+                    }
+                    candidates.add(element, value.applyAsDouble(element));
+                },
+                (groups, later) -> {
+                    later.forEach((key, candidates) -> {
+                        Candidates<T> earlier = groups.get(key);
+                        if (earlier == null) {
+                            groups.put(key, candidates);
+                        } else {
+                            earlier.merge(candidates);
+                        }
+                    });
+                    return groups;
+                },
+                groups -> {
+                    Map<K, List<T>> result = new HashMap<>(Math.max(16, (int) (groups.size() / 0.75f) + 1));
+                    groups.forEach((key, candidates) -> result.put(key, candidates.toList()));
+                    return result;
+                });
+    }
+
+    /**
+     * Same as approachA with skip(n - 1): group → nth highest, empty if the group is smaller
+     */
+    public static <T, K> Collector<T, ?, Map<K, Optional<T>>> nthHighestPerGroup(
+            Function<? super T, ? extends K> classifier, ToDoubleFunction<? super T> value, int n) {
+        return Collectors.collectingAndThen(topKPerGroup(classifier, value, n), groups -> {
+            Map<K, Optional<T>> result = new HashMap<>(Math.max(16, (int) (groups.size() / 0.75f) + 1));
+            groups.forEach((key, top) -> result.put(key,
+                    top.size() < n ? Optional.empty() : Optional.of(top.get(n - 1))));
+            return result;
+        });
+    }
+
+    /**
+     * Same as sorted(comparing(value).reversed()).skip(n - 1).findFirst(), in expected O(size)
+     */
+    public static <T> Optional<T> nthHighest(List<T> elements, ToDoubleFunction<? super T> value, int n) {
+        Objects.requireNonNull(value, "value");
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        int size = elements.size();
+        if (n > size) {
+            return Optional.empty();
+        }
+        // Primitive copies: every compare is two array reads, not two getSalary() calls
+        double[] values = new double[size];
+        int[] positions = new int[size];
+        int i = 0;
+        for (T element : elements) {
+            values[i] = value.applyAsDouble(element);
+            positions[i] = i;
+            i++;
+        }
+        return Optional.ofNullable(elements.get(positions[select(values, positions, n - 1)]));
+    }
+
+    /**
+     * Quickselect: afterwards slot {@code rank} holds the element of that rank (0 = highest)
+     */
+    private static int select(double[] values, int[] positions, int rank) {
+        int lo = 0;
+        int hi = values.length - 1;
+        while (lo < hi) {
+            int pivot = medianOfThree(values, positions, lo, (lo + hi) >>> 1, hi);
+            double pivotValue = values[pivot];
+            int pivotPosition = positions[pivot];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (ranksBefore(values[i], positions[i], pivotValue, pivotPosition)) {
+                    i++;
+                }
+                while (ranksBefore(pivotValue, pivotPosition, values[j], positions[j])) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, positions, i++, j--);
+                }
+            }
+            // [lo..j] rank before the pivot, [i..hi] after, anything in between IS the pivot
+            if (rank <= j) {
+                hi = j;
+            } else if (rank >= i) {
+                lo = i;
+            } else {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    private static int medianOfThree(double[] values, int[] positions, int a, int b, int c) {
+        if (ranksBefore(values[b], positions[b], values[a], positions[a])) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        if (ranksBefore(values[c], positions[c], values[b], positions[b])) {
+            b = ranksBefore(values[c], positions[c], values[a], positions[a]) ? a : c;
+        }
+        return b;
+    }
+
+    /**
+     * Higher value first; equal values (Double.compare) in encounter order
+     */
+    private static boolean ranksBefore(double value, long position, double otherValue, long otherPosition) {
+        int compare = Double.compare(value, otherValue);
+        return compare > 0 || (compare == 0 && position < otherPosition);
+    }
+
+    private static void swap(double[] values, int[] positions, int i, int j) {
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        int position = positions[i];
+        positions[i] = positions[j];
+        positions[j] = position;
+    }
+
+    /**
+     * One group's best k so far; seq = encounter position inside the group
+     */
+    private static final class Candidates<T> {
+        private final int k;
+        private final double[] values;
+        private final long[] seqs;
+        private final Object[] elements;
+        private final Heap heap; // only for k > SMALL_K, else the three arrays
+        private int size;
+        private long seen;
+
+        Candidates(int k) {
+            this.k = k;
+            boolean small = k <= SMALL_K;
+            this.values = small ? new double[k] : null;
+            this.seqs = small ? new long[k] : null;
+            this.elements = small ? new Object[k] : null;
+            // The heap grows with the group: small departments never pay for a large k
+            this.heap = small ? null : new Heap(Math.min(k, 8));
+        }
+
+        void add(T element, double value) {
+            offer(element, value, seen++);
+        }
+
+        /**
+         * {@code later} saw its elements after all of ours
+         */
+        void merge(Candidates<T> later) {
+            long offset = seen;
+            if (later.heap == null) {
+                for (int i = 0; i < later.size; i++) {
+                    offer(later.elements[i], later.values[i], later.seqs[i] + offset);
+                }
+            } else {
+                for (int i = 0; i < later.heap.size; i++) {
+                    offer(later.heap.elements[i], later.heap.values[i], later.heap.seqs[i] + offset);
+                }
+            }
+            seen += later.seen;
+        }
+
+        private void offer(Object element, double value, long seq) {
+            if (heap != null) {
+                heap.offer(element, value, seq, k);
+                return;
+            }
+            int slot;
+            if (size < k) {
+                slot = size++;
+            } else if (ranksBefore(value, seq, values[k - 1], seqs[k - 1])) {
+                slot = k - 1; // the current last drops out
+            } else {
+                return;
+            }
+            while (slot > 0 && ranksBefore(value, seq, values[slot - 1], seqs[slot - 1])) {
+                values[slot] = values[slot - 1];
+                seqs[slot] = seqs[slot - 1];
+                elements[slot] = elements[slot - 1];
+                slot--;
+            }
+            values[slot] = value;
+            seqs[slot] = seq;
+            elements[slot] = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> toList() {
+            if (heap == null) {
+                return Collections.unmodifiableList(Arrays.asList((T[]) Arrays.copyOf(elements, size)));
+            }
+            Object[] sorted = new Object[heap.size];
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                sorted[i] = heap.pollWorst();
+            }
+            return Collections.unmodifiableList(Arrays.asList((T[]) sorted));
+        }
+    }
+
+    /**
+     * Bounded min-heap: root = the candidate that drops out next
+     */
+    private static final class Heap {
+        private double[] values;
+        private long[] seqs;
+        private Object[] elements;
+        private int size;
+
+        Heap(int capacity) {
+            values = new double[capacity];
+            seqs = new long[capacity];
+            elements = new Object[capacity];
+        }
+
+        void offer(Object element, double value, long seq, int k) {
+            if (size < k) {
+                if (size == values.length) {
+                    int capacity = (int) Math.min(k, values.length * 2L);
+                    values = Arrays.copyOf(values, capacity);
+                    seqs = Arrays.copyOf(seqs, capacity);
+                    elements = Arrays.copyOf(elements, capacity);
+                }
+                set(size, element, value, seq);
+                siftUp(size++);
+            } else if (ranksBefore(value, seq, values[0], seqs[0])) {
+                set(0, element, value, seq);
+                siftDown(0);
+            }
+        }
+
+        Object pollWorst() {
+            Object worst = elements[0];
+            size--;
+            set(0, elements[size], values[size], seqs[size]);
+            elements[size] = null;
+            siftDown(0);
+            return worst;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(i, parent)) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && worse(child + 1, child)) {
+                    child++;
+                }
+                if (!worse(child, i)) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private boolean worse(int i, int j) {
+            return ranksBefore(values[j], seqs[j], values[i], seqs[i]);
+        }
+
+        private void set(int i, Object element, double value, long seq) {
+            elements[i] = element;
+            values[i] = value;
+            seqs[i] = seq;
+        }
+
+        private void swap(int i, int j) {
+            Object element = elements[i];
+            double value = values[i];
+            long seq = seqs[i];
+            set(i, elements[j], values[j], seqs[j]);
+            set(j, element, value, seq);
+        }
+    }
+}
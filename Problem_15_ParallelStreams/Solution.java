@@ -161,6 +161,8 @@ public class Solution {
         System.out.println("   Odd count: " + partitioned.get(false).size());
 
         // Best Practice 3: groupingByConcurrent for parallel
+        // Few keys (e.g. departments)? All threads contend on the same bins -
+        // see Problem 08's StripedGroupingCollector (per-thread buckets, one merge)
         System.out.println("\n   Best Practice 3: groupingByConcurrent");
         Map<Integer, List<Integer>> grouped = numbers.parallelStream()
                 .collect(Collectors.groupingByConcurrent(n -> n % 10));
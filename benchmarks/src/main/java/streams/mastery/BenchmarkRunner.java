@@ -0,0 +1,47 @@
+package streams.mastery;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar: JMH's own command line, with -prof gc on
+ *
+ * Every Problem compares its loop and stream versions, and the allocation
+ * rate (gc.alloc.rate.norm = bytes per operation) is usually the bigger
+ * difference - so the GC profiler runs unless other profilers are given.
+ *
+ *   java -jar benchmarks/target/benchmarks.jar                    (everything)
+ *   java -jar benchmarks/target/benchmarks.jar Problem08 -p size=1000
+ *   java -jar benchmarks/target/benchmarks.jar -prof stack        (replaces gc)
+ *   java -jar benchmarks/target/benchmarks.jar -l                 (list)
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        Runner runner = new Runner(options.build());
+
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else if (commandLine.shouldListWithParams()) {
+            runner.listWithParams(commandLine);
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package streams.mastery.problem01;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 1 - filter even numbers, loop vs stream
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class Problem01Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Integer> numbers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add(random.nextInt(1_000_000));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> findEvenWithoutStreams() {
+        return Solution.findEvenWithoutStreams(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> findEvenWithStreams() {
+        return Solution.findEvenWithStreams(numbers);
+    }
+}
@@ -0,0 +1,90 @@
+package streams.mastery.problem01;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 1 - boxed filters vs IntFilterEngine vs the SIMD kernel
+ *
+ * See concept.md: "Performance: Filtering Without Boxing" and "Performance: SIMD Kernels"
+ *
+ * Look at gc.alloc.rate.norm as well as the time: the point of the engine
+ * is to stop producing garbage. filterEvenScalar / filterEven is the
+ * per-core SIMD speed-up (the vector path needs the --add-modules below).
+ *
+ * 100M elements (the List<Integer> alone needs several GB):
+ *   java -jar benchmarks/target/benchmarks.jar Problem01FilterBenchmark -p size=100000000 \
+ *        -jvmArgsAppend "-Xmx12g --add-modules=jdk.incubator.vector"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g", "--add-modules=jdk.incubator.vector" })
+public class Problem01FilterBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    private int size;
+
+    private int[] primitive;
+    private List<Integer> boxed;
+    private IntFilterEngine engine;
+    private int[] out;
+
+    @Setup
+    public void setUp() {
+        primitive = new Random(42).ints(size).toArray();
+        boxed = new ArrayList<>(size);
+        for (int value : primitive) {
+            boxed.add(value);
+        }
+        engine = new IntFilterEngine();
+        out = new int[size];
+    }
+
+    @Benchmark
+    public List<Integer> findEvenWithoutStreams() {
+        return Solution.findEvenWithoutStreams(boxed);
+    }
+
+    @Benchmark
+    public List<Integer> findEvenWithStreams() {
+        return Solution.findEvenWithStreams(boxed);
+    }
+
+    @Benchmark
+    public int[] intStreamFilter() {
+        return Arrays.stream(primitive).filter(Solution::isEven).toArray();
+    }
+
+    @Benchmark
+    public int intFilterEngine() {
+        return Solution.findEvenPrimitive(primitive, engine).size();
+    }
+
+    @Benchmark
+    public int filterEvenScalar() {
+        return FilterKernels.filterEvenScalar(primitive, 0, size, out);
+    }
+
+    @Benchmark
+    public int filterEven() {
+        return FilterKernels.filterEven(primitive, 0, size, out);
+    }
+}
@@ -0,0 +1,86 @@
+package streams.mastery.problem02;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 2 - toUpperCase() pipelines vs UppercaseTransformer, 10M short names
+ *
+ * See concept.md: "Performance: Uppercase Without the Overhead"
+ *
+ * Input: 3-10 letter names, 25% of them already uppercase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem02TransformBenchmark {
+
+    private static final double ALREADY_UPPER_RATIO = 0.25;
+
+    @Param({ "10000000" })
+    private int size;
+
+    private List<String> names;
+    private String[] input;
+    private String[] output;
+    private UppercaseTransformer transformer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        names = new ArrayList<>(size);
+        char[] chars = new char[10];
+        for (int i = 0; i < size; i++) {
+            int length = 3 + random.nextInt(8);
+            char base = random.nextDouble() < ALREADY_UPPER_RATIO ? 'A' : 'a';
+            for (int c = 0; c < length; c++) {
+                chars[c] = (char) (base + random.nextInt(26));
+            }
+            names.add(new String(chars, 0, length));
+        }
+        input = names.toArray(new String[0]);
+        output = new String[size];
+        transformer = new UppercaseTransformer();
+    }
+
+    @Benchmark
+    public List<String> transformWithoutStreams() {
+        return Solution.transformWithoutStreams(names);
+    }
+
+    @Benchmark
+    public List<String> transformWithStreams() {
+        return Solution.transformWithStreams(names);
+    }
+
+    @Benchmark
+    public List<String> transformWithFastPath() {
+        return Solution.transformWithFastPath(names, transformer);
+    }
+
+    /**
+     * Reused output array: only the new Strings are allocated
+     */
+    @Benchmark
+    public String[] transformIntoArray() {
+        transformer.transform(input, 0, size, output, 0);
+        return output;
+    }
+}
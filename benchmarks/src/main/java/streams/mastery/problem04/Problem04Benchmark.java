@@ -0,0 +1,61 @@
+package streams.mastery.problem04;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 4 - sum INR transactions, loop vs mapToDouble vs reduce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class Problem04Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] currencies = { "INR", "USD", "EUR" };
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new Transaction("T" + i, random.nextInt(100_000) / 100.0,
+                    currencies[random.nextInt(currencies.length)]));
+        }
+    }
+
+    @Benchmark
+    public double sumWithoutStreams() {
+        return Solution.sumWithoutStreams(transactions);
+    }
+
+    @Benchmark
+    public double sumWithMapToDouble() {
+        return Solution.sumWithMapToDouble(transactions);
+    }
+
+    @Benchmark
+    public double sumWithReduce() {
+        return Solution.sumWithReduce(transactions);
+    }
+}
@@ -0,0 +1,101 @@
+package streams.mastery.problem04;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 4 - stream sum vs TransactionTable vs scalar and SIMD sum kernels
+ *
+ * See concept.md: "Performance: SIMD Sum Kernels"
+ *
+ * sumWhereScalar / sumWhere and sumScalar / sum are the per-core SIMD
+ * speed-ups; without --add-modules the kernels fall back to the scalar
+ * loops and the ratios stay around 1.0x.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g", "--add-modules=jdk.incubator.vector" })
+public class Problem04SumBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    private int size;
+
+    private List<Transaction> transactions;
+    private TransactionTable table;
+    private double[] amounts;
+    private boolean[] isInr;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] currencies = { "INR", "USD", "EUR" };
+        transactions = new ArrayList<>(size);
+        amounts = new double[size];
+        isInr = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            double amount = Math.round(random.nextDouble() * 10_000);
+            String currency = currencies[random.nextInt(currencies.length)];
+            transactions.add(new Transaction("T" + i, amount, currency));
+            amounts[i] = amount;
+            isInr[i] = currency.equals("INR");
+        }
+        table = TransactionTable.from(transactions);
+    }
+
+    @Benchmark
+    public double sumWithMapToDouble() {
+        return Solution.sumWithMapToDouble(transactions);
+    }
+
+    @Benchmark
+    public double tableSum() {
+        return table.sum("INR", false);
+    }
+
+    @Benchmark
+    public double tableSumParallel() {
+        return table.sum("INR", true);
+    }
+
+    @Benchmark
+    public double tableStatisticsParallel() {
+        return table.summaryStatistics("INR", true).getAverage();
+    }
+
+    @Benchmark
+    public double sumWhereScalar() {
+        return SumKernels.sumWhereScalar(amounts, isInr);
+    }
+
+    @Benchmark
+    public double sumWhere() {
+        return SumKernels.sumWhere(amounts, isInr);
+    }
+
+    @Benchmark
+    public double sumScalar() {
+        return SumKernels.sumScalar(amounts);
+    }
+
+    @Benchmark
+    public double sum() {
+        return SumKernels.sum(amounts);
+    }
+}
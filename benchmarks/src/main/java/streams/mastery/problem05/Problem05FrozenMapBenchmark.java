@@ -0,0 +1,143 @@
+package streams.mastery.problem05;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 5 - Collectors.toMap (HashMap) vs FrozenMap: build, footprint, lookups
+ *
+ * See concept.md: "Performance: Frozen Lookup Maps"
+ *
+ * - build*: ms per map; gc.alloc.rate.norm includes the growth garbage
+ * - hit* / miss*: ns per get(), random keys (same sequence for both maps)
+ * - retained bytes per entry (keys and values excluded - both maps share
+ *   them) are printed once per size by setUp()
+ *
+ * 10M orders:
+ *   java -jar benchmarks/target/benchmarks.jar Problem05FrozenMapBenchmark -p size=10000000 \
+ *        -jvmArgsAppend -Xmx8g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem05FrozenMapBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Order> orders;
+    private String[] hits;
+    private String[] misses;
+    private Map<String, Order> hashMap;
+    private FrozenMap<String, Order> frozenMap;
+
+    @Setup
+    public void setUp() {
+        orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order(String.format("ORD-%09d", i), "P" + (i % 1000), i % 100_000));
+        }
+        Random random = new Random(42);
+        hits = new String[LOOKUPS];
+        misses = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            hits[i] = orders.get(random.nextInt(size)).getId();
+            misses[i] = String.format("MISS-%09d", random.nextInt(size));
+        }
+
+        long before = usedHeapAfterGc();
+        hashMap = buildHashMap();
+        long afterHashMap = usedHeapAfterGc();
+        frozenMap = buildFrozenMap();
+        long afterFrozenMap = usedHeapAfterGc();
+        System.out.println(String.format("%nRetained per entry: HashMap %.1f B, FrozenMap %.1f B",
+                (double) (afterHashMap - before) / size, (double) (afterFrozenMap - afterHashMap) / size));
+    }
+
+    @Benchmark
+    public Map<String, Order> buildHashMap() {
+        return orders.stream().collect(Collectors.toMap(Order::getId, Function.identity()));
+    }
+
+    @Benchmark
+    public FrozenMap<String, Order> buildFrozenMap() {
+        return orders.stream().collect(FrozenMap.toFrozenMap(Order::getId, Function.identity()));
+    }
+
+    /**
+     * SIZED stream: arrays allocated at the exact size up front
+     */
+    @Benchmark
+    public FrozenMap<String, Order> buildFrozenMapPresized() {
+        return FrozenMap.collect(orders.stream(), Order::getId, Function.identity());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public int hitHashMap() {
+        return lookupAll(hashMap, hits);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public int hitFrozenMap() {
+        return lookupAll(frozenMap, hits);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public int missHashMap() {
+        return lookupAll(hashMap, misses);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public int missFrozenMap() {
+        return lookupAll(frozenMap, misses);
+    }
+
+    private static int lookupAll(Map<String, Order> map, String[] keys) {
+        int found = 0;
+        for (String key : keys) {
+            if (map.get(key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
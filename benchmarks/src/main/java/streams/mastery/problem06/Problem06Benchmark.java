@@ -0,0 +1,56 @@
+package streams.mastery.problem06;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 6 - dedupe by name + sort by price, loop vs stream
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem06Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // ~size / 4 distinct names, so the dedupe has work to do
+            products.add(new Product("Product-" + random.nextInt(Math.max(1, size / 4)),
+                    random.nextInt(1_000_000) / 100.0));
+        }
+    }
+
+    @Benchmark
+    public List<Product> withoutStreams() {
+        return Solution.withoutStreams(products);
+    }
+
+    @Benchmark
+    public List<Product> withStreams() {
+        return Solution.withStreams(products);
+    }
+}
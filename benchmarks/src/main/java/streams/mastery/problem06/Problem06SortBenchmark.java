@@ -0,0 +1,93 @@
+package streams.mastery.problem06;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 6 - Comparator sort vs PriceOrder radix argsort
+ *
+ * See 3_Solution.md: "Performance: Sorting Prices as Bits"
+ *
+ * Prices have cents and many ties, like real prices. argsortDescending
+ * alone vs sortByPriceDescending shows what the permute step costs.
+ *
+ * 100M products (~64 bytes each for the rows and the sorted copy):
+ *   java -jar benchmarks/target/benchmarks.jar Problem06SortBenchmark -p size=100000000 \
+ *        -jvmArgsAppend -Xmx16g -bm ss -wi 1 -i 3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem06SortBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    private int size;
+
+    private double[] prices;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] names = { "Phone", "Laptop", "Mouse", "Keyboard", "Monitor" };
+        prices = new double[size];
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            prices[i] = random.nextInt(1_000_000) / 100.0;
+            products.add(new Product(names[i % names.length], prices[i]));
+        }
+    }
+
+    @Benchmark
+    public List<Product> listSort() {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(Product::getPrice).reversed());
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Product> streamSorted() {
+        return products.stream()
+                .sorted(Comparator.comparing(Product::getPrice).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] argsortDescending() {
+        return PriceOrder.argsortDescending(prices);
+    }
+
+    @Benchmark
+    public List<Product> sortByPriceDescending() {
+        return PriceOrder.sortByPriceDescending(products);
+    }
+
+    @Benchmark
+    public List<Product> withStreams() {
+        return Solution.withStreams(products);
+    }
+
+    @Benchmark
+    public List<Product> withArgsort() {
+        return Solution.withArgsort(products);
+    }
+}
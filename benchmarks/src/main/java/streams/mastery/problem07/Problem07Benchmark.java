@@ -0,0 +1,60 @@
+package streams.mastery.problem07;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 7 - flatten customer orders, loop vs flatMap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem07Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Customer> customers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        customers = new ArrayList<>(size);
+        int orderId = 0;
+        for (int i = 0; i < size; i++) {
+            int orderCount = random.nextInt(6); // 0..5 orders, 2.5 on average
+            List<Order> orders = new ArrayList<>(orderCount);
+            for (int j = 0; j < orderCount; j++) {
+                orders.add(new Order("O" + orderId++, random.nextInt(100_000) / 100.0));
+            }
+            customers.add(new Customer("C" + i, "Customer-" + i, orders));
+        }
+    }
+
+    @Benchmark
+    public List<String> withoutStreams() {
+        return Solution.withoutStreams(customers);
+    }
+
+    @Benchmark
+    public List<String> withStreams() {
+        return Solution.withStreams(customers);
+    }
+}
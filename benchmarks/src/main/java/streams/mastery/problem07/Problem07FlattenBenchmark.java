@@ -0,0 +1,130 @@
+package streams.mastery.problem07;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 7 - flatMap vs mapMulti vs CSR table, 0-50 orders per customer
+ *
+ * See 3_Solution.md: "Performance: Flatten Once, Store Flat"
+ *
+ * The defaults stop at 1M customers (≈ 25M orders), which fits in 4 GB.
+ * 10M customers ≈ 250M orders need a 16 GB heap, even though orders at the
+ * same position share their id String (the flatten copies references
+ * either way, so the work per order is unchanged):
+ *
+ *   java -jar benchmarks/target/benchmarks.jar Problem07Flatten -p customers=10000000 -jvmArgsAppend -Xmx16g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem07FlattenBenchmark {
+
+    private static final int MAX_ORDERS = 50;
+
+    @Param({ "100000", "1000000" })
+    private int customers;
+
+    private List<Customer> customerList;
+    private CustomerOrderTable table;
+
+    @Setup
+    public void setUp() {
+        String[] orderIds = new String[MAX_ORDERS];
+        for (int j = 0; j < MAX_ORDERS; j++) {
+            orderIds[j] = "ORD-" + j;
+        }
+
+        Random random = new Random(42);
+        customerList = new ArrayList<>(customers);
+        for (int i = 0; i < customers; i++) {
+            int orderCount = random.nextInt(MAX_ORDERS + 1);
+            List<Order> orders = new ArrayList<>(orderCount);
+            for (int j = 0; j < orderCount; j++) {
+                orders.add(new Order(orderIds[j], random.nextInt(500_000) / 100.0));
+            }
+            customerList.add(new Customer("C" + i, "Customer-" + i, orders));
+        }
+        table = CustomerOrderTable.from(customerList);
+    }
+
+    // All order ids
+
+    @Benchmark
+    public List<String> idsWithoutStreams() {
+        return Solution.withoutStreams(customerList);
+    }
+
+    @Benchmark
+    public List<String> idsFlatMap() {
+        return Solution.withStreams(customerList);
+    }
+
+    @Benchmark
+    public List<String> idsMapMulti() {
+        return Solution.withMapMulti(customerList);
+    }
+
+    @Benchmark
+    public List<String> idsTable() {
+        return Solution.withTable(table);
+    }
+
+    // Total amount of all orders
+
+    @Benchmark
+    public double totalFlatMap() {
+        return customerList.stream()
+                .flatMap(c -> c.getOrders().stream())
+                .mapToDouble(Order::getAmount)
+                .sum();
+    }
+
+    @Benchmark
+    public double totalMapMulti() {
+        return customerList.stream()
+                .mapMultiToDouble((c, downstream) -> {
+                    for (Order o : c.getOrders()) {
+                        downstream.accept(o.getAmount());
+                    }
+                })
+                .sum();
+    }
+
+    @Benchmark
+    public double totalTable() {
+        return table.totalAmount();
+    }
+
+    // Orders with amount > 2000
+
+    @Benchmark
+    public long countAbove2000FlatMap() {
+        return customerList.stream()
+                .flatMap(c -> c.getOrders().stream())
+                .filter(o -> o.getAmount() > 2000)
+                .count();
+    }
+
+    @Benchmark
+    public long countAbove2000Table() {
+        return table.countAbove(2000);
+    }
+}
@@ -0,0 +1,106 @@
+package streams.mastery.problem07;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 7 - parallel flatMap vs BalancedOrderSpliterator on skewed data
+ *
+ * See 3_Solution.md: "Performance: Balanced Parallel Flatten"
+ *
+ * 1M customers with 0-5 orders, plus a few "whales" holding millions of
+ * orders each at random positions. Compare the parallel runs against the
+ * sequential baseline at several core counts:
+ *
+ *   java -jar benchmarks/target/benchmarks.jar Problem07Skew \
+ *        -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class Problem07SkewBenchmark {
+
+    private static final int SMALL_CUSTOMERS = 1_000_000;
+
+    @Param({ "2", "8" })
+    private int whales;
+
+    @Param({ "2000000" })
+    private int ordersPerWhale;
+
+    private List<Customer> customers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        customers = new ArrayList<>(SMALL_CUSTOMERS + whales);
+        for (int i = 0; i < SMALL_CUSTOMERS; i++) {
+            customers.add(new Customer("C" + i, "Customer-" + i, orders(random, random.nextInt(6))));
+        }
+        for (int w = 0; w < whales; w++) {
+            customers.add(new Customer("W" + w, "Whale-" + w, orders(random, ordersPerWhale)));
+        }
+        Collections.shuffle(customers, random);
+    }
+
+    private static List<Order> orders(Random random, int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+            orders.add(new Order("ORD", random.nextInt(500_000) / 100.0));
+        }
+        return orders;
+    }
+
+    @Benchmark
+    public double totalSequential() {
+        return customers.stream()
+                .flatMap(c -> c.getOrders().stream())
+                .mapToDouble(Order::getAmount)
+                .sum();
+    }
+
+    @Benchmark
+    public double totalParallelFlatMap() {
+        return customers.parallelStream()
+                .flatMap(c -> c.getOrders().stream())
+                .mapToDouble(Order::getAmount)
+                .sum();
+    }
+
+    @Benchmark
+    public double totalParallelBalanced() {
+        return Solution.totalAmountBalanced(customers);
+    }
+
+    @Benchmark
+    public List<Order> above2000ParallelFlatMap() {
+        return customers.parallelStream()
+                .flatMap(c -> c.getOrders().stream())
+                .filter(o -> o.getAmount() > 2000)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Order> above2000ParallelBalanced() {
+        return Solution.ordersAboveBalanced(customers, 2000);
+    }
+}
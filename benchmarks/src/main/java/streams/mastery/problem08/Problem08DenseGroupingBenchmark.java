@@ -0,0 +1,112 @@
+package streams.mastery.problem08;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 8 - groupingBy vs DenseGrouping, 10 departments
+ *
+ * See 3_Solution.md: "Performance: Dense Key Ids"
+ *
+ * Each pair compares the full cost of one answer: groupsDense runs both
+ * passes, the downstream variants their single pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem08DenseGroupingBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    private int size;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        String[] departments = { "Engineering", "Sales", "Marketing", "HR", "Finance",
+                "Legal", "Support", "Operations", "Research", "Design" };
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("E" + i, "Employee-" + i, 30_000 + random.nextInt(170_000),
+                    departments[random.nextInt(departments.length)]));
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> groupsGroupingBy() {
+        return Solution.withStreams(employees);
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> groupsDense() {
+        return Solution.withDenseGrouping(employees);
+    }
+
+    @Benchmark
+    public Map<String, Long> countingGroupingBy() {
+        return employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> countingDense() {
+        return DenseGrouping.counting(employees, Employee::getDepartment);
+    }
+
+    @Benchmark
+    public Map<String, Double> summingGroupingBy() {
+        return employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.summingDouble(Employee::getSalary)));
+    }
+
+    @Benchmark
+    public Map<String, Double> summingDense() {
+        return DenseGrouping.summingDouble(employees, Employee::getDepartment, Employee::getSalary);
+    }
+
+    @Benchmark
+    public Map<String, Double> averagingGroupingBy() {
+        return employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.averagingDouble(Employee::getSalary)));
+    }
+
+    @Benchmark
+    public Map<String, Double> averagingDense() {
+        return DenseGrouping.averagingDouble(employees, Employee::getDepartment, Employee::getSalary);
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> maxByGroupingBy() {
+        return employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.maxBy(Comparator.comparing(Employee::getSalary))));
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> maxByDense() {
+        return DenseGrouping.maxBy(employees, Employee::getDepartment, Employee::getSalary);
+    }
+}
@@ -0,0 +1,80 @@
+package streams.mastery.problem08;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH: Problem 8 - five groupingBy passes vs one DepartmentReport pass
+ *
+ * See 3_Solution.md: "Performance: One Pass, Whole Report"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem08ReportBenchmark {
+
+    @Param({ "100000", "1000000" })
+    private int size;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        String[] departments = { "Engineering", "Sales", "Marketing", "HR", "Finance",
+                "Legal", "Support", "Operations", "Research", "Design" };
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("E" + i, "Employee-" + i, 30_000 + random.nextInt(170_000),
+                    departments[random.nextInt(departments.length)]));
+        }
+    }
+
+    @Benchmark
+    public void fivePasses(Blackhole blackhole) {
+        blackhole.consume(employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.mapping(Employee::getName, Collectors.toList()))));
+        blackhole.consume(employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting())));
+        blackhole.consume(employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.summingDouble(Employee::getSalary))));
+        blackhole.consume(employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.averagingDouble(Employee::getSalary))));
+        blackhole.consume(employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.maxBy(Comparator.comparing(Employee::getSalary)))));
+    }
+
+    @Benchmark
+    public Map<String, DepartmentReport> onePass() {
+        return employees.stream().collect(DepartmentReport.byDepartment());
+    }
+
+    @Benchmark
+    public Map<String, DepartmentReport> onePassParallel() {
+        return employees.parallelStream().collect(DepartmentReport.byDepartment());
+    }
+}
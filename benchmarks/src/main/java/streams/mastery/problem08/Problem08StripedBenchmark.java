@@ -0,0 +1,89 @@
+package streams.mastery.problem08;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 8 - parallel grouping, 1..N cores, 10 departments
+ *
+ * See 3_Solution.md: "Performance: Striped Concurrent Grouping"
+ *
+ * Every collect runs inside a ForkJoinPool of the given parallelism (a
+ * parallel stream started from a pool's task stays in that pool), so one
+ * run gives the scaling curve:
+ *   java -jar benchmarks/target/benchmarks.jar Problem08StripedBenchmark -p parallelism=1,2,4,8,16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem08StripedBenchmark {
+
+    @Param({ "5000000" })
+    private int size;
+
+    @Param({ "1", "2", "4" })
+    private int parallelism;
+
+    private List<Employee> employees;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        String[] departments = { "Engineering", "Sales", "Marketing", "HR", "Finance",
+                "Legal", "Support", "Operations", "Research", "Design" };
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("E" + i, "Employee-" + i, 30_000 + random.nextInt(170_000),
+                    departments[random.nextInt(departments.length)]));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> groupingBy() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> employees.parallelStream()
+                .collect(Collectors.groupingBy(Employee::getDepartment))).get();
+    }
+
+    @Benchmark
+    public ConcurrentMap<String, List<Employee>> groupingByConcurrent()
+            throws InterruptedException, ExecutionException {
+        return pool.submit(() -> employees.parallelStream()
+                .collect(Collectors.groupingByConcurrent(Employee::getDepartment))).get();
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> striped() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> employees.parallelStream()
+                .collect(StripedGroupingCollector.groupingByStriped(Employee::getDepartment))).get();
+    }
+}
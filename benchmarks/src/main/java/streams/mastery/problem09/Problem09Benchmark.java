@@ -0,0 +1,55 @@
+package streams.mastery.problem09;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 9 - partition students pass/fail, loop vs partitioningBy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem09Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student("S" + i, "Student-" + i, random.nextInt(101)));
+        }
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> withoutStreams() {
+        return Solution.withoutStreams(students);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> withStreams() {
+        return Solution.withStreams(students);
+    }
+}
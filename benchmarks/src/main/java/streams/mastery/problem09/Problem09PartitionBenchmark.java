@@ -0,0 +1,88 @@
+package streams.mastery.problem09;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 9 - partitioningBy vs PartitionEngine, random marks (~60% pass)
+ *
+ * See 3_Solution.md: "Performance: Partitioning Arrays"
+ *
+ * The array is built once in setUp. inPlace first copies it into a scratch
+ * array (one System.arraycopy) so every call sees the same shuffled input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem09PartitionBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    private int size;
+
+    private List<Student> students;
+    private Student[] array;
+    private Student[] scratch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student("S" + i, "Student-" + i, random.nextInt(101)));
+        }
+        array = students.toArray(new Student[0]);
+        scratch = new Student[size];
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> partitioningBy() {
+        return students.stream().collect(Collectors.partitioningBy(s -> s.getMarks() >= 40));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> stable() {
+        return PartitionEngine.stable(array, s -> s.getMarks() >= 40).toMap();
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> parallel() {
+        return PartitionEngine.parallel(array, s -> s.getMarks() >= 40).toMap();
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Student>> inPlace() {
+        System.arraycopy(array, 0, scratch, 0, size);
+        return PartitionEngine.inPlace(scratch, s -> s.getMarks() >= 40).toMap();
+    }
+
+    @Benchmark
+    public Map<Boolean, Double> averagingPartitioningBy() {
+        return students.stream().collect(Collectors.partitioningBy(s -> s.getMarks() >= 40,
+                Collectors.averagingDouble(Student::getMarks)));
+    }
+
+    @Benchmark
+    public Map<Boolean, Double> averagingInPlace() {
+        System.arraycopy(array, 0, scratch, 0, size);
+        return PartitionEngine.inPlace(scratch, s -> s.getMarks() >= 40, Student::getMarks).averagingDouble();
+    }
+}
@@ -0,0 +1,92 @@
+package streams.mastery.problem09;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 9 - streams vs cached StudentSlices, "passed without distinction"
+ *
+ * See 3_Solution.md: "Performance: Cached Predicate Slices"
+ *
+ * Each query answers count + average marks. The *Slices variants use
+ * slices built in setUp (the cache is warm); buildSlices is the one-off
+ * cost of evaluating the two predicates into bitsets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem09SlicesBenchmark {
+
+    private static final Predicate<Student> PASS_WITHOUT_DISTINCTION = StudentSlices.PASS
+            .and(StudentSlices.DISTINCTION.negate());
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Student> students;
+    private StudentSlices slices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student("S" + i, "Student-" + i, random.nextInt(101)));
+        }
+        slices = StudentSlices.of(students);
+        slices.slice("pass", StudentSlices.PASS);
+        slices.slice("distinction", StudentSlices.DISTINCTION);
+        slices.slice("absent", StudentSlices.ABSENT);
+    }
+
+    @Benchmark
+    public double countAndAverageStreams() {
+        long count = students.stream().filter(PASS_WITHOUT_DISTINCTION).count();
+        double average = students.stream().filter(PASS_WITHOUT_DISTINCTION)
+                .collect(Collectors.averagingDouble(Student::getMarks));
+        return count + average;
+    }
+
+    @Benchmark
+    public double countAndAverageSlices() {
+        CompressedBitSet slice = slices.slice("pass").andNot(slices.slice("distinction"));
+        return slices.count(slice) + slices.average(slice, Student::getMarks);
+    }
+
+    @Benchmark
+    public long countOnlyStreams() {
+        return students.stream().filter(StudentSlices.PASS.negate().and(StudentSlices.ABSENT.negate())).count();
+    }
+
+    @Benchmark
+    public long countOnlySlices() {
+        return slices.count(slices.all().andNot(slices.slice("pass")).andNot(slices.slice("absent")));
+    }
+
+    @Benchmark
+    public StudentSlices buildSlices() {
+        StudentSlices fresh = StudentSlices.of(students);
+        fresh.slice("pass", StudentSlices.PASS);
+        fresh.slice("distinction", StudentSlices.DISTINCTION);
+        return fresh;
+    }
+}
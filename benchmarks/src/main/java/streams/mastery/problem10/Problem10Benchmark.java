@@ -0,0 +1,59 @@
+package streams.mastery.problem10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 10 - second highest salary per department, approach A vs B
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem10Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        String[] departments = { "Engineering", "Sales", "Marketing", "HR", "Finance",
+                "Legal", "Support", "Operations", "Research", "Design" };
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("E" + i, "Employee-" + i, 30_000 + random.nextInt(170_000),
+                    departments[random.nextInt(departments.length)]));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> approachA() {
+        return Solution.approachA(employees);
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> approachB() {
+        return Solution.approachB(employees);
+    }
+}
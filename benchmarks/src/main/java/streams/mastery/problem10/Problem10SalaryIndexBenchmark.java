@@ -0,0 +1,86 @@
+package streams.mastery.problem10;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 10 - one salary update + one "10th highest in dept" query
+ *
+ * See 3_Solution.md: "Performance: Live Salary Index"
+ *
+ * resort: change the salary in the department's list, then getNthHighest
+ * (sorts the department). index: SalaryIndex.updateSalary + nthHighest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class Problem10SalaryIndexBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    @Param({ "100" })
+    private int departments;
+
+    private Employee[] employees;
+    private Map<String, List<Employee>> byDepartment;
+    private int[] positionInDepartment;
+    private SalaryIndex index;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        employees = new Employee[size];
+        positionInDepartment = new int[size];
+        byDepartment = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            employees[i] = new Employee("E" + i, "Employee-" + i, 30_000 + random.nextInt(170_000),
+                    "Dept-" + random.nextInt(departments));
+            List<Employee> department = byDepartment.computeIfAbsent(employees[i].getDepartment(),
+                    d -> new ArrayList<>());
+            positionInDepartment[i] = department.size();
+            department.add(employees[i]);
+        }
+        index = SalaryIndex.of(List.of(employees));
+    }
+
+    @Benchmark
+    public Optional<Employee> resort() {
+        int i = random.nextInt(size);
+        Employee old = employees[i];
+        Employee updated = new Employee(old.getId(), old.getName(), 30_000 + random.nextInt(170_000),
+                old.getDepartment());
+        employees[i] = updated;
+        List<Employee> department = byDepartment.get(old.getDepartment());
+        department.set(positionInDepartment[i], updated);
+        return Solution.getNthHighest(department, 10);
+    }
+
+    @Benchmark
+    public Optional<Employee> index() {
+        int i = random.nextInt(size);
+        Employee updated = index.updateSalary(employees[i].getId(), 30_000 + random.nextInt(170_000));
+        return index.nthHighest(updated.getDepartment(), 10);
+    }
+}
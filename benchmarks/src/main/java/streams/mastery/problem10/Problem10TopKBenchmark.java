@@ -0,0 +1,85 @@
+package streams.mastery.problem10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 10 - sort-then-skip vs TopK, 10k departments
+ *
+ * See 3_Solution.md: "Performance: Top-k Without Sorting"
+ *
+ * All employees share one id and one name String so that 50M of them fit
+ * in a 4 GB heap (~32 bytes each). The full-size run:
+ *   java -jar benchmarks/target/benchmarks.jar Problem10TopKBenchmark -p size=50000000 -bm ss -wi 1 -i 3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Problem10TopKBenchmark {
+
+    @Param({ "5000000" })
+    private int size;
+
+    @Param({ "10000" })
+    private int departments;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        String[] names = new String[departments];
+        for (int d = 0; d < departments; d++) {
+            names[d] = "Dept-" + d;
+        }
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("E", "Employee", 30_000 + random.nextInt(170_000),
+                    names[random.nextInt(departments)]));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> secondHighestSorted() {
+        return Solution.approachA(employees);
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> secondHighestTopK() {
+        return Solution.approachC(employees);
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> top10PerDepartmentHeap() {
+        return employees.stream().collect(TopK.topKPerGroup(Employee::getDepartment, Employee::getSalary, 10));
+    }
+
+    @Benchmark
+    public Optional<Employee> nthHighestSorted() {
+        return Solution.getNthHighest(employees, 1000);
+    }
+
+    @Benchmark
+    public Optional<Employee> nthHighestQuickselect() {
+        return TopK.nthHighest(employees, Employee::getSalary, 1000);
+    }
+}
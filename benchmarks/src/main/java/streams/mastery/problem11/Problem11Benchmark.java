@@ -0,0 +1,55 @@
+package streams.mastery.problem11;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 11 - find duplicates, Set.add vs groupingBy counting
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem11Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Integer> numbers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // values in [0, size / 2): roughly every second number repeats
+            numbers.add(random.nextInt(Math.max(1, size / 2)));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> findDuplicatesA() {
+        return Solution.findDuplicatesA(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> findDuplicatesB() {
+        return Solution.findDuplicatesB(numbers);
+    }
+}
@@ -0,0 +1,62 @@
+package streams.mastery.problem13;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH: Problem 13 - group anagrams, sorted key vs letter-count key
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Problem13Benchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private final Solution solution = new Solution();
+    private List<String> words;
+
+    @Setup
+    public void setUp() {
+        // Few distinct letters and short words → many real anagram groups
+        Random random = new Random(42);
+        char[] letters = "aeilnrst".toCharArray();
+        words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            char[] word = new char[3 + random.nextInt(6)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = letters[random.nextInt(letters.length)];
+            }
+            words.add(new String(word));
+        }
+    }
+
+    @Benchmark
+    public Collection<List<String>> groupAnagramsSort() {
+        return solution.groupAnagramsSort(words);
+    }
+
+    @Benchmark
+    public Collection<List<String>> groupAnagramsCount() {
+        return solution.groupAnagramsCount(words);
+    }
+}